@@ -0,0 +1,75 @@
+package jfftw.bench;
+
+import jfftw.data.DirectAllocator;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.planning.DirectPlan;
+import jfftw.planning.PrimitivePlan;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of crossing into native code for small transforms.
+ * <p>
+ * At these sizes the FFT itself takes tens of nanoseconds, so differences between
+ * builds of the library show up directly as JNI overhead. Run the same benchmark
+ * against two builds to compare them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecuteOverheadBenchmark {
+
+    @Param({"64", "128", "256", "512", "1024"})
+    public int n;
+
+    private DirectPlan direct;
+    private PrimitivePlan primitive;
+    private DoubleBuffer in, out;
+    private double[] pin, pout;
+
+    @Setup
+    public void setup() {
+        Natives.load();
+        int flags = Flag.combine(Flag.ESTIMATE);
+        direct = new DirectPlan(DirectAllocator.allocateComplex(n), DirectAllocator.allocateComplex(n), -1, Complexity.COMPLEX_TO_COMPLEX, flags, null);
+        in = DirectAllocator.allocateComplex(n);
+        out = DirectAllocator.allocateComplex(n);
+        pin = new double[2 * n];
+        pout = new double[2 * n];
+        // heap arrays may move between calls, so do not tie the plan to their alignment
+        primitive = new PrimitivePlan(pin, pout, -1, Complexity.COMPLEX_TO_COMPLEX, flags | Flag.UNALIGNED.value, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        direct.destroy();
+        primitive.destroy();
+    }
+
+    @Benchmark
+    public void directExecute() {
+        direct.execute();
+    }
+
+    @Benchmark
+    public void directExecuteNewArrays() {
+        direct.execute(in, out);
+    }
+
+    @Benchmark
+    public void primitiveExecute() {
+        primitive.execute();
+    }
+
+    @Benchmark
+    public void primitiveExecuteNewArrays() {
+        primitive.execute(pin, pout);
+    }
+
+}
@@ -0,0 +1,43 @@
+package jfftw.bench;
+
+import jfftw.enums.Complexity;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.Collection;
+
+/**
+ * Runs benchmarks with the usual JMH command line and prints each ns/op score alongside GFLOPS.
+ * <p>
+ * Only results with a <code>log2n</code> parameter and scores in ns/op are converted; the flop
+ * count follows {@link Shapes#flops(int, Complexity)}.
+ */
+public final class GflopsReport {
+
+    private GflopsReport() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Collection<RunResult> results = new Runner(new CommandLineOptions(args)).run();
+        System.out.printf("%n%-60s %-20s %6s %14s %10s%n", "Benchmark", "Complexity", "log2n", "ns/op", "GFLOPS");
+        for (RunResult r : results) {
+            BenchmarkParams params = r.getParams();
+            Result score = r.getPrimaryResult();
+            String log2n = params.getParam("log2n");
+            if (log2n == null || !"ns/op".equals(score.getScoreUnit()))
+                continue;
+            String cplx = params.getParam("complexity");
+            Complexity c = cplx == null ? Complexity.COMPLEX_TO_COMPLEX : Complexity.valueOf(cplx);
+            String name = params.getBenchmark();
+            if (params.getParam("rank") != null)
+                name += " (rank " + params.getParam("rank") + ")";
+            double gflops = Shapes.flops(Integer.parseInt(log2n), c) / score.getScore();
+            System.out.printf("%-60s %-20s %6s %14.1f %10.3f%n", name, c, log2n, score.getScore(), gflops);
+        }
+    }
+
+}
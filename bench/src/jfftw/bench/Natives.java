@@ -0,0 +1,19 @@
+package jfftw.bench;
+
+import jfftw.Interface;
+
+/**
+ * Loads the native libraries for benchmark forks.
+ * <p>
+ * Library names may be overridden with the <code>jfftw.fftw</code> and <code>jfftw.jfftw</code>
+ * system properties, e.g. <code>-jvmArgs -Djfftw.fftw=fftw3-3</code>.
+ */
+final class Natives {
+
+    private Natives() {}
+
+    static void load() {
+        Interface.loadLibraries(System.getProperty("jfftw.fftw", "fftw3"), System.getProperty("jfftw.jfftw", "jfftw"));
+    }
+
+}
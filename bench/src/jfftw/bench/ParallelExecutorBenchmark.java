@@ -0,0 +1,72 @@
+package jfftw.bench;
+
+import jfftw.data.Dimensions;
+import jfftw.data.DirectAllocator;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.planning.ParallelExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to transform a batch of independent mid-size transforms with a ParallelExecutor, by
+ * number of workers. Scaling is the one worker score divided by the n worker score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelExecutorBenchmark {
+
+    @Param({"10", "14"})
+    public int log2n;
+
+    @Param({"1", "2", "4", "8"})
+    public int workers;
+
+    @Param({"256"})
+    public int transforms;
+
+    private ForkJoinPool pool;
+    private ParallelExecutor executor;
+    private final List<DoubleBuffer> in = new ArrayList<>(), out = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        Natives.load();
+        Dimensions dims = Shapes.dimensions(log2n, 1);
+        int is = Shapes.inputLength(dims, Complexity.COMPLEX_TO_COMPLEX);
+        pool = new ForkJoinPool(workers);
+        executor = new ParallelExecutor(-1, Complexity.COMPLEX_TO_COMPLEX, Flag.combine(Flag.MEASURE), dims, pool);
+        Random r = new Random(0);
+        for (int t = 0; t < transforms; t++) {
+            DoubleBuffer i = DirectAllocator.allocateReal(is);
+            for (int k = 0; k < is; k++)
+                i.put(k, r.nextDouble());
+            in.add(i);
+            out.add(DirectAllocator.allocateReal(is));
+        }
+        // plan before measuring
+        executor.executeAll(in.subList(0, 1), out.subList(0, 1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void executeAll() {
+        executor.executeAll(in, out);
+    }
+
+}
@@ -0,0 +1,79 @@
+package jfftw.bench;
+
+import jfftw.data.Dimensions;
+import jfftw.data.DirectAllocator;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.planning.DirectPlan;
+import jfftw.planning.Plan;
+import jfftw.planning.PrimitivePlan;
+import jfftw.planning.Wisdom;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to construct a plan under each planner rigor.
+ * <p>
+ * Wisdom is forgotten before every invocation, so each plan is created from scratch
+ * rather than from what earlier invocations learned. PATIENT planning of large sizes
+ * can take minutes per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlanningBenchmark {
+
+    @Param({"4", "10", "16", "20"})
+    public int log2n;
+
+    @Param({"1", "2", "3"})
+    public int rank;
+
+    @Param({"COMPLEX_TO_COMPLEX", "REAL_TO_COMPLEX"})
+    public Complexity complexity;
+
+    @Param({"ESTIMATE", "MEASURE", "PATIENT"})
+    public Flag flag;
+
+    private Dimensions dims;
+    private DoubleBuffer in, out;
+    private double[] pin, pout;
+    private Plan<?> plan;
+
+    @Setup
+    public void setup() {
+        Natives.load();
+        dims = Shapes.dimensions(log2n, rank);
+        int is = Shapes.inputLength(dims, complexity), os = Shapes.outputLength(dims, complexity);
+        in = DirectAllocator.allocateReal(is);
+        out = DirectAllocator.allocateReal(os);
+        pin = new double[is];
+        pout = new double[os];
+    }
+
+    @Setup(Level.Invocation)
+    public void forget() {
+        Wisdom.forgetWisdom();
+    }
+
+    @TearDown(Level.Invocation)
+    public void destroy() {
+        plan.destroy();
+    }
+
+    @Benchmark
+    public Plan<?> directPlan() {
+        return plan = new DirectPlan(in, out, -1, complexity, Flag.combine(flag), dims);
+    }
+
+    @Benchmark
+    public Plan<?> primitivePlan() {
+        return plan = new PrimitivePlan(pin, pout, -1, complexity, Flag.combine(flag, Flag.UNALIGNED), dims);
+    }
+
+}
@@ -0,0 +1,60 @@
+package jfftw.bench;
+
+import jfftw.data.DirectAllocator;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.planning.DirectPlan;
+import jfftw.planning.Registration;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares new-array execution against registered buffers.
+ * <p>
+ * Run with <code>-prof gc</code>: <code>registered</code> should report a
+ * <code>gc.alloc.rate.norm</code> of 0 B/op, while <code>newArrays</code> pays for two
+ * Alignment objects per call. Run with <code>-t</code> above 1 to expose contention on
+ * the Alignment natives.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisteredExecuteBenchmark {
+
+    @Param({"64", "1024"})
+    public int n;
+
+    private DirectPlan plan;
+    private DoubleBuffer in, out;
+    private Registration registration;
+
+    @Setup
+    public void setup() {
+        Natives.load();
+        plan = new DirectPlan(DirectAllocator.allocateComplex(n), DirectAllocator.allocateComplex(n), -1, Complexity.COMPLEX_TO_COMPLEX, Flag.combine(Flag.ESTIMATE), null);
+        in = DirectAllocator.allocateComplex(n);
+        out = DirectAllocator.allocateComplex(n);
+        registration = plan.register(in, out);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plan.destroy();
+    }
+
+    @Benchmark
+    public void newArrays() {
+        plan.execute(in, out);
+    }
+
+    @Benchmark
+    public void registered() {
+        plan.execute(registration);
+    }
+
+}
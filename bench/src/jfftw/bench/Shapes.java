@@ -0,0 +1,63 @@
+package jfftw.bench;
+
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+
+/**
+ * Transform shapes and flop counts shared by the benchmarks.
+ */
+final class Shapes {
+
+    private Shapes() {}
+
+    /**
+     * Splits 2^log2n points over rank power of two dimensions, as close to equal as possible.
+     */
+    static Dimensions dimensions(int log2n, int rank) {
+        if (log2n < rank)
+            throw new IllegalArgumentException("2^" + log2n + " points cannot fill " + rank + " dimensions");
+        int[] dims = new int[rank];
+        for (int i = 0; i < rank; i++)
+            dims[i] = 1 << (log2n / rank + (i < log2n % rank ? 1 : 0));
+        return new Dimensions(dims);
+    }
+
+    /**
+     * Doubles needed to hold the input of an out-of-place transform. As the plans require, the
+     * complex side of a real transform holds all N points, not only the half spectrum FFTW fills.
+     */
+    static int inputLength(Dimensions d, Complexity c) {
+        switch (c) {
+            case COMPLEX_TO_COMPLEX:
+            case COMPLEX_TO_REAL: return 2 * points(d);
+            default: return points(d);
+        }
+    }
+
+    /**
+     * Doubles needed to hold the output of an out-of-place transform.
+     */
+    static int outputLength(Dimensions d, Complexity c) {
+        switch (c) {
+            case COMPLEX_TO_COMPLEX:
+            case REAL_TO_COMPLEX: return 2 * points(d);
+            default: return points(d);
+        }
+    }
+
+    /**
+     * Nominal flop count used by benchFFT: 5 N log2 N for complex transforms and half that for real ones.
+     */
+    static double flops(int log2n, Complexity c) {
+        double flops = 5.0 * Math.pow(2, log2n) * log2n;
+        return c == Complexity.COMPLEX_TO_COMPLEX ? flops : flops / 2;
+    }
+
+    private static int points(Dimensions d) {
+        int n = 1;
+        for (int i : d.get())
+            n *= i;
+        return n;
+    }
+
+}
@@ -0,0 +1,95 @@
+package jfftw.bench;
+
+import jfftw.data.Dimensions;
+import jfftw.data.DirectAllocator;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.planning.DirectPlan;
+import jfftw.planning.PrimitivePlan;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution time of complete transforms by size, rank and complexity.
+ * <p>
+ * Both plan types are executed on the arrays they were created with and through the new
+ * array methods, so the difference between the two is the cost of validation. Scores are
+ * in ns/op; {@link GflopsReport} converts them to GFLOPS. The largest sizes need several
+ * gigabytes of heap and direct memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "-XX:MaxDirectMemorySize=6g"})
+public class TransformBenchmark {
+
+    @Param({"4", "8", "12", "16", "20", "24"})
+    public int log2n;
+
+    @Param({"1", "2", "3"})
+    public int rank;
+
+    @Param({"COMPLEX_TO_COMPLEX", "REAL_TO_COMPLEX", "COMPLEX_TO_REAL"})
+    public Complexity complexity;
+
+    @Param({"MEASURE"})
+    public Flag flag;
+
+    private DirectPlan direct;
+    private PrimitivePlan primitive;
+    private DoubleBuffer in, out;
+    private double[] pin, pout;
+
+    @Setup
+    public void setup() {
+        Natives.load();
+        Dimensions dims = Shapes.dimensions(log2n, rank);
+        int is = Shapes.inputLength(dims, complexity), os = Shapes.outputLength(dims, complexity);
+        int flags = Flag.combine(flag);
+        in = DirectAllocator.allocateReal(is);
+        out = DirectAllocator.allocateReal(os);
+        pin = new double[is];
+        pout = new double[os];
+        direct = new DirectPlan(in, out, -1, complexity, flags, dims);
+        // heap arrays may move between calls, so do not tie the plan to their alignment
+        primitive = new PrimitivePlan(pin, pout, -1, complexity, flags | Flag.UNALIGNED.value, dims);
+        // planning may overwrite the arrays, so fill them afterwards
+        Random r = new Random(0);
+        for (int i = 0; i < is; i++) {
+            pin[i] = r.nextDouble();
+            in.put(i, pin[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        direct.destroy();
+        primitive.destroy();
+    }
+
+    @Benchmark
+    public void directExecute() {
+        direct.execute();
+    }
+
+    @Benchmark
+    public void directExecuteNewArrays() {
+        direct.execute(in, out);
+    }
+
+    @Benchmark
+    public void primitiveExecute() {
+        primitive.execute();
+    }
+
+    @Benchmark
+    public void primitiveExecuteNewArrays() {
+        primitive.execute(pin, pout);
+    }
+
+}
@@ -0,0 +1,38 @@
+#include "jfftw_data_FloatDirectAllocator.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_data_FloatDirectAllocator
+ * Method:    jfftwf_alloc_complex
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_jfftw_data_FloatDirectAllocator_jfftwf_1alloc_1complex
+  (JNIEnv *env, jclass clazz, jint size) {
+    fftwf_complex *cbuff = fftwf_alloc_complex(size);
+    if (cbuff == NULL)
+        return NULL;
+    return (*env)->NewDirectByteBuffer(env, cbuff, sizeof(*cbuff) * size);
+}
+
+/*
+ * Class:     jfftw_data_FloatDirectAllocator
+ * Method:    jfftwf_alloc_real
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_jfftw_data_FloatDirectAllocator_jfftwf_1alloc_1real
+  (JNIEnv *env, jclass clazz, jint size) {
+    float *rbuff = fftwf_alloc_real(size);
+    if (rbuff == NULL)
+        return NULL;
+    return (*env)->NewDirectByteBuffer(env, rbuff, sizeof(*rbuff) * size);
+}
+
+/*
+ * Class:     jfftw_data_FloatDirectAllocator
+ * Method:    jfftwf_free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_data_FloatDirectAllocator_jfftwf_1free
+  (JNIEnv *env, jclass clazz, jlong address) {
+    fftwf_free((void *) address);
+}
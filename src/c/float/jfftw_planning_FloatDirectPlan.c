@@ -0,0 +1,194 @@
+#include "jfftw_planning_FloatDirectPlan.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_execute_dft
+ * Signature: (JLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1execute_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    fftwf_execute_dft(plan, ci, co);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_execute_dft_c2r
+ * Signature: (JLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1execute_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    float *ro = (float *) get_direct_buffer(env, jout);
+    fftwf_execute_dft_c2r(plan, ci, ro);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_execute_dft_r2c
+ * Signature: (JLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1execute_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    float *ri = (float *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    fftwf_execute_dft_r2c(plan, ri, co);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft
+ * Signature: (I[ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jobject jin, jobject jout, jint sign, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    fftwf_plan p = fftwf_plan_dft(rank, dims, ci, co, sign, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    return (jlong) p;
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_1d
+ * Signature: (ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_11d
+  (JNIEnv *env, jclass clazz, jint n, jobject jin, jobject jout, jint sign, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_1d(n, ci, co, sign, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_2d
+ * Signature: (IILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jobject jin, jobject jout, jint sign, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_2d(n0, n1, ci, co, sign, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_3d
+ * Signature: (IIILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jobject jin, jobject jout, jint sign, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_3d(n0, n1, n2, ci, co, sign, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r
+ * Signature: (I[ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jobject jin, jobject jout, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    float *ro = (float *) get_direct_buffer(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_c2r(rank, dims, ci, ro, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r_1d
+ * Signature: (ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r_11d
+  (JNIEnv *env, jclass clazz, jint n, jobject jin, jobject jout, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    float *ro = (float *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_c2r_1d(n, ci, ro, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r_2d
+ * Signature: (IILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jobject jin, jobject jout, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    float *ro = (float *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_c2r_2d(n0, n1, ci, ro, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r_3d
+ * Signature: (IIILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jobject jin, jobject jout, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_direct_buffer(env, jin);
+    float *ro = (float *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_c2r_3d(n0, n1, n2, ci, ro, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c
+ * Signature: (I[ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jobject jin, jobject jout, jint flags) {
+    int *dims = (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    float *ri = (float *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_r2c(rank, dims, ri, co, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c_1d
+ * Signature: (ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c_11d
+  (JNIEnv *env, jclass clazz, jint n, jobject jin, jobject jout, jint flags) {
+    float *ri = (float *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_r2c_1d(n, ri, co, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c_2d
+ * Signature: (IILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jobject jin, jobject jout, jint flags) {
+    float *ri = (float *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_r2c_2d(n0, n1, ri, co, flags);
+}
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c_3d
+ * Signature: (IIILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jobject jin, jobject jout, jint flags) {
+    float *ri = (float *) get_direct_buffer(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_direct_buffer(env, jout);
+    return (jlong) fftwf_plan_dft_r2c_3d(n0, n1, n2, ri, co, flags);
+}
@@ -0,0 +1,233 @@
+#include "jfftw_planning_FloatPrimitivePlan.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_execute_dft
+ * Signature: (J[F[F)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1execute_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jfloatArray jin, jfloatArray jout) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_execute_dft(plan, ci, co);
+    release_array(env, jin, ci, JNI_ABORT);
+    release_array(env, jout, co, 0);
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_execute_dft_c2r
+ * Signature: (J[F[F)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1execute_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jfloatArray jin, jfloatArray jout) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    float *ro = (float *) get_array(env, jout);
+    fftwf_execute_dft_c2r(plan, ci, ro);
+    release_array(env, jin, ci, JNI_ABORT);
+    release_array(env, jout, ro, 0);
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_execute_dft_r2c
+ * Signature: (J[F[F)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1execute_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jfloatArray jin, jfloatArray jout) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    float *ri = (float *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_execute_dft_r2c(plan, ri, co);
+    release_array(env, jin, ri, JNI_ABORT);
+    release_array(env, jout, co, 0);
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft
+ * Signature: (I[I[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jfloatArray jin, jfloatArray jout, jint sign, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft(rank, dims, ci, co, sign, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_1d
+ * Signature: (I[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_11d
+  (JNIEnv *env, jclass clazz, jint n, jfloatArray jin, jfloatArray jout, jint sign, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_1d(n, ci, co, sign, flags);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_2d
+ * Signature: (II[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jfloatArray jin, jfloatArray jout, jint sign, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_2d(n0, n1, ci, co, sign, flags);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_3d
+ * Signature: (III[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jfloatArray jin, jfloatArray jout, jint sign, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_3d(n0, n1, n2, ci, co, sign, flags);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r
+ * Signature: (I[I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jfloatArray jin, jfloatArray jout, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    float *ro = (float *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_c2r(rank, dims, ci, ro, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r_1d
+ * Signature: (I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r_11d
+  (JNIEnv *env, jclass clazz, jint n, jfloatArray jin, jfloatArray jout, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    float *ro = (float *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_c2r_1d(n, ci, ro, flags);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r_2d
+ * Signature: (II[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jfloatArray jin, jfloatArray jout, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    float *ro = (float *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_c2r_2d(n0, n1, ci, ro, flags);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r_3d
+ * Signature: (III[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jfloatArray jin, jfloatArray jout, jint flags) {
+    fftwf_complex *ci = (fftwf_complex *) get_array(env, jin);
+    float *ro = (float *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_c2r_3d(n0, n1, n2, ci, ro, flags);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c
+ * Signature: (I[I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jfloatArray jin, jfloatArray jout, jint flags) {
+    int *dims = (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    float *ri = (float *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_r2c(rank, dims, ri, co, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c_1d
+ * Signature: (I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c_11d
+  (JNIEnv *env, jclass clazz, jint n, jfloatArray jin, jfloatArray jout, jint flags) {
+    float *ri = (float *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_r2c_1d(n, ri, co, flags);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c_2d
+ * Signature: (II[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jfloatArray jin, jfloatArray jout, jint flags) {
+    float *ri = (float *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_r2c_2d(n0, n1, ri, co, flags);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c_3d
+ * Signature: (III[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jfloatArray jin, jfloatArray jout, jint flags) {
+    float *ri = (float *) get_array(env, jin);
+    fftwf_complex *co = (fftwf_complex *) get_array(env, jout);
+    fftwf_plan plan = fftwf_plan_dft_r2c_3d(n0, n1, n2, ri, co, flags);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
@@ -0,0 +1,74 @@
+#include "jfftw_planning_FloatWisdom.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_planning_FloatWisdom
+ * Method:    jfftwf_export_wisdom_to_filename
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_FloatWisdom_jfftwf_1export_1wisdom_1to_1filename
+  (JNIEnv *env, jclass clazz, jstring jstr) {
+    const char *fname = (*env)->GetStringUTFChars(env, jstr, 0);
+    jboolean success = fftwf_export_wisdom_to_filename(fname);
+    (*env)->ReleaseStringUTFChars(env, jstr, fname);
+    return success;
+}
+
+/*
+ * Class:     jfftw_planning_FloatWisdom
+ * Method:    jfftwf_export_wisdom_to_string
+ * Signature: ()Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_jfftw_planning_FloatWisdom_jfftwf_1export_1wisdom_1to_1string
+  (JNIEnv *env, jclass clazz) {
+    char *str = fftwf_export_wisdom_to_string();
+    jstring jstr = (*env)->NewStringUTF(env, str);
+    fftwf_free(str);
+    return jstr;
+}
+
+/*
+ * Class:     jfftw_planning_FloatWisdom
+ * Method:    jfftwf_forget_wisdom
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatWisdom_jfftwf_1forget_1wisdom
+  (JNIEnv *env, jclass clazz) {
+    fftwf_forget_wisdom();
+}
+
+/*
+ * Class:     jfftw_planning_FloatWisdom
+ * Method:    jfftwf_import_system_wisdom
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_FloatWisdom_jfftwf_1import_1system_1wisdom
+  (JNIEnv *env, jclass clazz) {
+    return fftwf_import_system_wisdom();
+}
+
+/*
+ * Class:     jfftw_planning_FloatWisdom
+ * Method:    jfftwf_import_wisdom_from_filename
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_FloatWisdom_jfftwf_1import_1wisdom_1from_1filename
+  (JNIEnv *env, jclass clazz, jstring jstr) {
+    const char *fname = (*env)->GetStringUTFChars(env, jstr, 0);
+    jboolean success = fftwf_import_wisdom_from_filename(fname);
+    (*env)->ReleaseStringUTFChars(env, jstr, fname);
+    return success;
+}
+
+/*
+ * Class:     jfftw_planning_FloatWisdom
+ * Method:    jfftwf_import_wisdom_from_string
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_FloatWisdom_jfftwf_1import_1wisdom_1from_1string
+  (JNIEnv *env, jclass clazz, jstring jstr) {
+    const char *str = (*env)->GetStringUTFChars(env, jstr, 0);
+    jboolean success = fftwf_import_wisdom_from_string(str);
+    (*env)->ReleaseStringUTFChars(env, jstr, str);
+    return success;
+}
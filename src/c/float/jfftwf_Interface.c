@@ -0,0 +1,12 @@
+#include "jfftw_Interface.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_Interface
+ * Method:    jfftwf_version
+ * Signature: ()Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_jfftw_Interface_jfftwf_1version
+  (JNIEnv *env, jclass clazz) {
+    return (*env)->NewStringUTF(env, fftwf_version);
+}
@@ -0,0 +1,26 @@
+#include "jfftw_data_Alignment.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_data_Alignment
+ * Method:    jfftwf_alignment_of
+ * Signature: ([F)I
+ */
+JNIEXPORT jint JNICALL Java_jfftw_data_Alignment_jfftwf_1alignment_1of___3F
+  (JNIEnv *env, jclass clazz, jfloatArray jarr) {
+    float *carr = (float *) get_array(env, jarr);
+    jint alignment = fftwf_alignment_of(carr);
+    release_array(env, jarr, carr, JNI_ABORT);
+    return alignment;
+}
+
+/*
+ * Class:     jfftw_data_Alignment
+ * Method:    jfftwf_alignment_of
+ * Signature: (Ljava/nio/FloatBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_jfftw_data_Alignment_jfftwf_1alignment_1of__Ljava_nio_FloatBuffer_2
+  (JNIEnv *env, jclass clazz, jobject buff) {
+    float *carr = (float *) get_direct_buffer(env, buff);
+    return fftwf_alignment_of(carr);
+}
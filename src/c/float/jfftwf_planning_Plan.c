@@ -0,0 +1,83 @@
+#include "jfftw_planning_Plan.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_cost
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftwf_1cost
+  (JNIEnv *env, jclass clazz, jlong jplan) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    return fftwf_cost(plan);
+}
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_destroy_plan
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftwf_1destroy_1plan
+  (JNIEnv *env, jclass clazz, jlong jplan) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    fftwf_destroy_plan(plan);
+}
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_estimate_cost
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftwf_1estimate_1cost
+  (JNIEnv *env, jclass clazz, jlong jplan) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    return fftwf_estimate_cost(plan);
+}
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_flops
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftwf_1flops
+  (JNIEnv *env, jclass clazz, jlong jplan) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    double add, mul, fma;
+    fftwf_flops(plan, &add, &mul, &fma);
+    return add + mul + 2 * fma;
+}
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_execute
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftwf_1execute
+  (JNIEnv *env, jclass clazz, jlong jplan) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    fftwf_execute(plan);
+}
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_print_plan
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftwf_1print_1plan
+  (JNIEnv *env, jclass clazz, jlong jplan) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    fftwf_print_plan(plan);
+}
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_sprint_plan
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_jfftw_planning_Plan_jfftwf_1sprint_1plan
+  (JNIEnv *env, jclass clazz, jlong jplan) {
+    fftwf_plan plan = (fftwf_plan) jplan;
+    char *str = plan == NULL ? "null plan" : fftwf_sprint_plan(plan);
+    jstring jstr = (*env)->NewStringUTF(env, str);
+    return jstr;
+}
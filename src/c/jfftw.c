@@ -8,12 +8,10 @@ double *get_array(JNIEnv *env, jdoubleArray jarr) {
     return (*env)->GetPrimitiveArrayCritical(env, jarr, 0);
 }
 
-void release_array(JNIEnv *env, jobject jarr, void *carr, jint commit) {
-    (*env)->ReleasePrimitiveArrayCritical(env, jarr, carr, commit);
+void release_array(JNIEnv *env, jobject jarr, void *carr, jint mode) {
+    (*env)->ReleasePrimitiveArrayCritical(env, jarr, carr, mode);
 }
 
-fftw_plan get_fftw_plan(JNIEnv *env, jobject plan) {
-    jclass clazz = (*env)->GetObjectClass(env, plan);
-    jfieldID jfid = (*env)->GetFieldID(env, clazz, "address", "J");
-    return (fftw_plan) (*env)->GetLongField(env, plan, jfid);
+jboolean is_aligned(void *carr, jint alignment) {
+    return alignment < 0 || fftw_alignment_of((double *) carr) == alignment;
 }
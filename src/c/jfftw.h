@@ -5,6 +5,6 @@ double *get_direct_buffer(JNIEnv *env, jobject jbuff);
 
 double *get_array(JNIEnv *env, jdoubleArray jarr);
 
-void release_array(JNIEnv *env, jobject jarr, void *carr, jint commit);
+void release_array(JNIEnv *env, jobject jarr, void *carr, jint mode);
 
-fftw_plan get_fftw_plan(JNIEnv *env, jobject plan);
+jboolean is_aligned(void *carr, jint alignment);
@@ -60,3 +60,13 @@ JNIEXPORT void JNICALL Java_jfftw_Interface_jfftw_1set_1timelimit
   (JNIEnv *env, jclass clazz, jdouble limit) {
     fftw_set_timelimit(limit);
 }
+
+/*
+ * Class:     jfftw_Interface
+ * Method:    jfftw_version
+ * Signature: ()Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_jfftw_Interface_jfftw_1version
+  (JNIEnv *env, jclass clazz) {
+    return (*env)->NewStringUTF(env, fftw_version);
+}
@@ -55,6 +55,22 @@ JNIEXPORT void JNICALL Java_jfftw_Interface_jfftw_1plan_1with_1nthreads
 JNIEXPORT void JNICALL Java_jfftw_Interface_jfftw_1set_1timelimit
   (JNIEnv *, jclass, jdouble);
 
+/*
+ * Class:     jfftw_Interface
+ * Method:    jfftw_version
+ * Signature: ()Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_jfftw_Interface_jfftw_1version
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     jfftw_Interface
+ * Method:    jfftwf_version
+ * Signature: ()Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_jfftw_Interface_jfftwf_1version
+  (JNIEnv *, jclass);
+
 #ifdef __cplusplus
 }
 #endif
@@ -10,7 +10,7 @@ JNIEXPORT jint JNICALL Java_jfftw_data_Alignment_jfftw_1alignment_1of___3D
   (JNIEnv *env, jclass clazz, jdoubleArray jarr) {
     double *carr = get_array(env, jarr);
     jint alignment = fftw_alignment_of(carr);
-    release_array(env, jarr, carr, JNI_COMMIT);
+    release_array(env, jarr, carr, JNI_ABORT);
     return alignment;
 }
 
@@ -23,6 +23,22 @@ JNIEXPORT jint JNICALL Java_jfftw_data_Alignment_jfftw_1alignment_1of___3D
 JNIEXPORT jint JNICALL Java_jfftw_data_Alignment_jfftw_1alignment_1of__Ljava_nio_DoubleBuffer_2
   (JNIEnv *, jclass, jobject);
 
+/*
+ * Class:     jfftw_data_Alignment
+ * Method:    jfftwf_alignment_of
+ * Signature: ([F)I
+ */
+JNIEXPORT jint JNICALL Java_jfftw_data_Alignment_jfftwf_1alignment_1of___3F
+  (JNIEnv *, jclass, jfloatArray);
+
+/*
+ * Class:     jfftw_data_Alignment
+ * Method:    jfftwf_alignment_of
+ * Signature: (Ljava/nio/FloatBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_jfftw_data_Alignment_jfftwf_1alignment_1of__Ljava_nio_FloatBuffer_2
+  (JNIEnv *, jclass, jobject);
+
 #ifdef __cplusplus
 }
 #endif
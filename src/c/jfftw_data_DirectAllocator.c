@@ -9,6 +9,8 @@
 JNIEXPORT jobject JNICALL Java_jfftw_data_DirectAllocator_jfftw_1alloc_1complex
   (JNIEnv *env, jclass clazz, jint size) {
     fftw_complex *cbuff = fftw_alloc_complex(size);
+    if (cbuff == NULL)
+        return NULL;
     return (*env)->NewDirectByteBuffer(env, cbuff, sizeof(*cbuff) * size);
 }
 
@@ -20,5 +22,40 @@ JNIEXPORT jobject JNICALL Java_jfftw_data_DirectAllocator_jfftw_1alloc_1complex
 JNIEXPORT jobject JNICALL Java_jfftw_data_DirectAllocator_jfftw_1alloc_1real
   (JNIEnv *env, jclass clazz, jint size) {
     double *rbuff = fftw_alloc_real(size);
+    if (rbuff == NULL)
+        return NULL;
     return (*env)->NewDirectByteBuffer(env, rbuff, sizeof(*rbuff) * size);
 }
+
+/*
+ * Class:     jfftw_data_DirectAllocator
+ * Method:    jfftw_malloc
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_jfftw_data_DirectAllocator_jfftw_1malloc
+  (JNIEnv *env, jclass clazz, jint bytes) {
+    void *buff = fftw_malloc(bytes);
+    if (buff == NULL)
+        return NULL;
+    return (*env)->NewDirectByteBuffer(env, buff, bytes);
+}
+
+/*
+ * Class:     jfftw_data_DirectAllocator
+ * Method:    jfftw_free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_data_DirectAllocator_jfftw_1free
+  (JNIEnv *env, jclass clazz, jlong address) {
+    fftw_free((void *) address);
+}
+
+/*
+ * Class:     jfftw_data_DirectAllocator
+ * Method:    jfftw_address_of
+ * Signature: (Ljava/nio/ByteBuffer;)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_data_DirectAllocator_jfftw_1address_1of
+  (JNIEnv *env, jclass clazz, jobject jbuff) {
+    return (jlong) (*env)->GetDirectBufferAddress(env, jbuff);
+}
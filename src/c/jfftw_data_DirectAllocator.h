@@ -23,6 +23,30 @@ JNIEXPORT jobject JNICALL Java_jfftw_data_DirectAllocator_jfftw_1alloc_1complex
 JNIEXPORT jobject JNICALL Java_jfftw_data_DirectAllocator_jfftw_1alloc_1real
   (JNIEnv *, jclass, jint);
 
+/*
+ * Class:     jfftw_data_DirectAllocator
+ * Method:    jfftw_malloc
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_jfftw_data_DirectAllocator_jfftw_1malloc
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     jfftw_data_DirectAllocator
+ * Method:    jfftw_free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_data_DirectAllocator_jfftw_1free
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_data_DirectAllocator
+ * Method:    jfftw_address_of
+ * Signature: (Ljava/nio/ByteBuffer;)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_data_DirectAllocator_jfftw_1address_1of
+  (JNIEnv *, jclass, jobject);
+
 #ifdef __cplusplus
 }
 #endif
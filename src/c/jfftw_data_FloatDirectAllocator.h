@@ -0,0 +1,37 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class jfftw_data_FloatDirectAllocator */
+
+#ifndef _Included_jfftw_data_FloatDirectAllocator
+#define _Included_jfftw_data_FloatDirectAllocator
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     jfftw_data_FloatDirectAllocator
+ * Method:    jfftwf_alloc_complex
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_jfftw_data_FloatDirectAllocator_jfftwf_1alloc_1complex
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     jfftw_data_FloatDirectAllocator
+ * Method:    jfftwf_alloc_real
+ * Signature: (I)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_jfftw_data_FloatDirectAllocator_jfftwf_1alloc_1real
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     jfftw_data_FloatDirectAllocator
+ * Method:    jfftwf_free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_data_FloatDirectAllocator_jfftwf_1free
+  (JNIEnv *, jclass, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
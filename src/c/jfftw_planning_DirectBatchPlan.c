@@ -0,0 +1,86 @@
+#include "jfftw_planning_DirectBatchPlan.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_execute_dft
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1execute_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftw_plan plan = (fftw_plan) jplan;
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
+    fftw_execute_dft(plan, ci, co);
+}
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftw_plan plan = (fftw_plan) jplan;
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
+    double *ro = (double *) get_direct_buffer(env, jout);
+    fftw_execute_dft_c2r(plan, ci, ro);
+}
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_direct_buffer(env, jin);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
+    fftw_execute_dft_r2c(plan, ri, co);
+}
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_plan_many_dft
+ * Signature: (I[IILjava/nio/DoubleBuffer;IILjava/nio/DoubleBuffer;IIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1plan_1many_1dft
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jint howmany, jobject jin, jint istride, jint idist, jobject jout, jint ostride, jint odist, jint sign, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
+    fftw_plan plan = fftw_plan_many_dft(rank, dims, howmany, ci, NULL, istride, idist, co, NULL, ostride, odist, sign, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_plan_many_dft_c2r
+ * Signature: (I[IILjava/nio/DoubleBuffer;IILjava/nio/DoubleBuffer;III)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1plan_1many_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jint howmany, jobject jin, jint istride, jint idist, jobject jout, jint ostride, jint odist, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
+    double *ro = (double *) get_direct_buffer(env, jout);
+    fftw_plan plan = fftw_plan_many_dft_c2r(rank, dims, howmany, ci, NULL, istride, idist, ro, NULL, ostride, odist, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_plan_many_dft_r2c
+ * Signature: (I[IILjava/nio/DoubleBuffer;IILjava/nio/DoubleBuffer;III)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1plan_1many_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jint howmany, jobject jin, jint istride, jint idist, jobject jout, jint ostride, jint odist, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    double *ri = (double *) get_direct_buffer(env, jin);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
+    fftw_plan plan = fftw_plan_many_dft_r2c(rank, dims, howmany, ri, NULL, istride, idist, co, NULL, ostride, odist, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    return (jlong) plan;
+}
@@ -0,0 +1,61 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class jfftw_planning_DirectBatchPlan */
+
+#ifndef _Included_jfftw_planning_DirectBatchPlan
+#define _Included_jfftw_planning_DirectBatchPlan
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_execute_dft
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1execute_1dft
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_plan_many_dft
+ * Signature: (I[IILjava/nio/DoubleBuffer;IILjava/nio/DoubleBuffer;IIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1plan_1many_1dft
+  (JNIEnv *, jclass, jint, jintArray, jint, jobject, jint, jint, jobject, jint, jint, jint, jint);
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_plan_many_dft_c2r
+ * Signature: (I[IILjava/nio/DoubleBuffer;IILjava/nio/DoubleBuffer;III)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1plan_1many_1dft_1c2r
+  (JNIEnv *, jclass, jint, jintArray, jint, jobject, jint, jint, jobject, jint, jint, jint);
+
+/*
+ * Class:     jfftw_planning_DirectBatchPlan
+ * Method:    jfftw_plan_many_dft_r2c
+ * Signature: (I[IILjava/nio/DoubleBuffer;IILjava/nio/DoubleBuffer;III)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectBatchPlan_jfftw_1plan_1many_1dft_1r2c
+  (JNIEnv *, jclass, jint, jintArray, jint, jobject, jint, jint, jobject, jint, jint, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
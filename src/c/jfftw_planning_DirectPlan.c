@@ -4,11 +4,11 @@
 /*
  * Class:     jfftw_planning_DirectPlan
  * Method:    jfftw_execute_dft
- * Signature: (Ljfftw/planning/DirectPlan;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft
-  (JNIEnv *env, jclass clazz, jobject jplan, jobject jin, jobject jout) {
-    fftw_plan plan = get_fftw_plan(env, jplan);
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftw_plan plan = (fftw_plan) jplan;
     fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
     fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
     fftw_execute_dft(plan, ci, co);
@@ -17,11 +17,11 @@ JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft
 /*
  * Class:     jfftw_planning_DirectPlan
  * Method:    jfftw_execute_dft_c2r
- * Signature: (Ljfftw/planning/DirectPlan;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft_1c2r
-  (JNIEnv *env, jclass clazz, jobject jplan, jobject jin, jobject jout) {
-    fftw_plan plan = get_fftw_plan(env, jplan);
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftw_plan plan = (fftw_plan) jplan;
     fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
     double *ro = (double *) get_direct_buffer(env, jout);
     fftw_execute_dft_c2r(plan, ci, ro);
@@ -30,16 +30,29 @@ JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft_1c2r
 /*
  * Class:     jfftw_planning_DirectPlan
  * Method:    jfftw_execute_dft_r2c
- * Signature: (Ljfftw/planning/DirectPlan;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft_1r2c
-  (JNIEnv *env, jclass clazz, jobject jplan, jobject jin, jobject jout) {
-    fftw_plan plan = get_fftw_plan(env, jplan);
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftw_plan plan = (fftw_plan) jplan;
     double *ri = (double *) get_direct_buffer(env, jin);
     fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
     fftw_execute_dft_r2c(plan, ri, co);
 }
 
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_execute_r2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1r2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jin, jobject jout) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_direct_buffer(env, jin);
+    double *ro = (double *) get_direct_buffer(env, jout);
+    fftw_execute_r2r(plan, ri, ro);
+}
+
 /*
  * Class:     jfftw_planning_DirectPlan
  * Method:    jfftw_plan_dft
@@ -51,7 +64,7 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1dft
     fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
     fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
     fftw_plan p = fftw_plan_dft(rank, dims, ci, co, sign, flags);
-    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_COMMIT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
     return (jlong) p;
 }
 
@@ -102,7 +115,7 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1dft_1c2r
     fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jin);
     double *ro = (double *) get_direct_buffer(env, jout);
     fftw_plan plan = fftw_plan_dft_c2r(rank, dims, ci, ro, flags);
-    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_COMMIT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
     return (jlong) plan;
 }
 
@@ -153,7 +166,7 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1dft_1r2c
     double *ri = (double *) get_direct_buffer(env, jin);
     fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
     fftw_plan plan = fftw_plan_dft_r2c(rank, dims, ri, co, flags);
-    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_COMMIT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
     return (jlong) plan;
 }
 
@@ -192,3 +205,56 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1dft_1r2c_13d
     fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jout);
     return (jlong) fftw_plan_dft_r2c_3d(n0, n1, n2, ri, co, flags);
 }
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r
+ * Signature: (I[ILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;[II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jobject jin, jobject jout, jintArray jkinds, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftw_r2r_kind *kinds = (fftw_r2r_kind *) (*env)->GetPrimitiveArrayCritical(env, jkinds, 0);
+    double *ri = (double *) get_direct_buffer(env, jin);
+    double *ro = (double *) get_direct_buffer(env, jout);
+    fftw_plan plan = fftw_plan_r2r(rank, dims, ri, ro, kinds, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jkinds, kinds, JNI_ABORT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r_1d
+ * Signature: (ILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r_11d
+  (JNIEnv *env, jclass clazz, jint n, jobject jin, jobject jout, jint kind, jint flags) {
+    double *ri = (double *) get_direct_buffer(env, jin);
+    double *ro = (double *) get_direct_buffer(env, jout);
+    return (jlong) fftw_plan_r2r_1d(n, ri, ro, kind, flags);
+}
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r_2d
+ * Signature: (IILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;III)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jobject jin, jobject jout, jint kind0, jint kind1, jint flags) {
+    double *ri = (double *) get_direct_buffer(env, jin);
+    double *ro = (double *) get_direct_buffer(env, jout);
+    return (jlong) fftw_plan_r2r_2d(n0, n1, ri, ro, kind0, kind1, flags);
+}
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r_3d
+ * Signature: (IIILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;IIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jobject jin, jobject jout, jint kind0, jint kind1, jint kind2, jint flags) {
+    double *ri = (double *) get_direct_buffer(env, jin);
+    double *ro = (double *) get_direct_buffer(env, jout);
+    return (jlong) fftw_plan_r2r_3d(n0, n1, n2, ri, ro, kind0, kind1, kind2, flags);
+}
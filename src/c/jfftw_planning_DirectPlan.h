@@ -10,26 +10,34 @@ extern "C" {
 /*
  * Class:     jfftw_planning_DirectPlan
  * Method:    jfftw_execute_dft
- * Signature: (Ljfftw/planning/DirectPlan;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft
-  (JNIEnv *, jclass, jobject, jobject, jobject);
+  (JNIEnv *, jclass, jlong, jobject, jobject);
 
 /*
  * Class:     jfftw_planning_DirectPlan
  * Method:    jfftw_execute_dft_c2r
- * Signature: (Ljfftw/planning/DirectPlan;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft_1c2r
-  (JNIEnv *, jclass, jobject, jobject, jobject);
+  (JNIEnv *, jclass, jlong, jobject, jobject);
 
 /*
  * Class:     jfftw_planning_DirectPlan
  * Method:    jfftw_execute_dft_r2c
- * Signature: (Ljfftw/planning/DirectPlan;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1dft_1r2c
-  (JNIEnv *, jclass, jobject, jobject, jobject);
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_execute_r2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_DirectPlan_jfftw_1execute_1r2r
+  (JNIEnv *, jclass, jlong, jobject, jobject);
 
 /*
  * Class:     jfftw_planning_DirectPlan
@@ -127,6 +135,38 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1dft_1r2c_12d
 JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1dft_1r2c_13d
   (JNIEnv *, jclass, jint, jint, jint, jobject, jobject, jint);
 
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r
+ * Signature: (I[ILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;[II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r
+  (JNIEnv *, jclass, jint, jintArray, jobject, jobject, jintArray, jint);
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r_1d
+ * Signature: (ILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r_11d
+  (JNIEnv *, jclass, jint, jobject, jobject, jint, jint);
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r_2d
+ * Signature: (IILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;III)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r_12d
+  (JNIEnv *, jclass, jint, jint, jobject, jobject, jint, jint, jint);
+
+/*
+ * Class:     jfftw_planning_DirectPlan
+ * Method:    jfftw_plan_r2r_3d
+ * Signature: (IIILjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;IIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_DirectPlan_jfftw_1plan_1r2r_13d
+  (JNIEnv *, jclass, jint, jint, jint, jobject, jobject, jint, jint, jint, jint);
+
 #ifdef __cplusplus
 }
 #endif
@@ -0,0 +1,133 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class jfftw_planning_FloatDirectPlan */
+
+#ifndef _Included_jfftw_planning_FloatDirectPlan
+#define _Included_jfftw_planning_FloatDirectPlan
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_execute_dft
+ * Signature: (JLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1execute_1dft
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_execute_dft_c2r
+ * Signature: (JLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1execute_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_execute_dft_r2c
+ * Signature: (JLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1execute_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft
+ * Signature: (I[ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft
+  (JNIEnv *, jclass, jint, jintArray, jobject, jobject, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_1d
+ * Signature: (ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_11d
+  (JNIEnv *, jclass, jint, jobject, jobject, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_2d
+ * Signature: (IILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_12d
+  (JNIEnv *, jclass, jint, jint, jobject, jobject, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_3d
+ * Signature: (IIILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_13d
+  (JNIEnv *, jclass, jint, jint, jint, jobject, jobject, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r
+ * Signature: (I[ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r
+  (JNIEnv *, jclass, jint, jintArray, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r_1d
+ * Signature: (ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r_11d
+  (JNIEnv *, jclass, jint, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r_2d
+ * Signature: (IILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r_12d
+  (JNIEnv *, jclass, jint, jint, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_c2r_3d
+ * Signature: (IIILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1c2r_13d
+  (JNIEnv *, jclass, jint, jint, jint, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c
+ * Signature: (I[ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c
+  (JNIEnv *, jclass, jint, jintArray, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c_1d
+ * Signature: (ILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c_11d
+  (JNIEnv *, jclass, jint, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c_2d
+ * Signature: (IILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c_12d
+  (JNIEnv *, jclass, jint, jint, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_FloatDirectPlan
+ * Method:    jfftwf_plan_dft_r2c_3d
+ * Signature: (IIILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatDirectPlan_jfftwf_1plan_1dft_1r2c_13d
+  (JNIEnv *, jclass, jint, jint, jint, jobject, jobject, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,133 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class jfftw_planning_FloatPrimitivePlan */
+
+#ifndef _Included_jfftw_planning_FloatPrimitivePlan
+#define _Included_jfftw_planning_FloatPrimitivePlan
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_execute_dft
+ * Signature: (J[F[F)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1execute_1dft
+  (JNIEnv *, jclass, jlong, jfloatArray, jfloatArray);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_execute_dft_c2r
+ * Signature: (J[F[F)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1execute_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jfloatArray, jfloatArray);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_execute_dft_r2c
+ * Signature: (J[F[F)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1execute_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jfloatArray, jfloatArray);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft
+ * Signature: (I[I[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft
+  (JNIEnv *, jclass, jint, jintArray, jfloatArray, jfloatArray, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_1d
+ * Signature: (I[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_11d
+  (JNIEnv *, jclass, jint, jfloatArray, jfloatArray, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_2d
+ * Signature: (II[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_12d
+  (JNIEnv *, jclass, jint, jint, jfloatArray, jfloatArray, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_3d
+ * Signature: (III[F[FII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_13d
+  (JNIEnv *, jclass, jint, jint, jint, jfloatArray, jfloatArray, jint, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r
+ * Signature: (I[I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r
+  (JNIEnv *, jclass, jint, jintArray, jfloatArray, jfloatArray, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r_1d
+ * Signature: (I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r_11d
+  (JNIEnv *, jclass, jint, jfloatArray, jfloatArray, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r_2d
+ * Signature: (II[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r_12d
+  (JNIEnv *, jclass, jint, jint, jfloatArray, jfloatArray, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_c2r_3d
+ * Signature: (III[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1c2r_13d
+  (JNIEnv *, jclass, jint, jint, jint, jfloatArray, jfloatArray, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c
+ * Signature: (I[I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c
+  (JNIEnv *, jclass, jint, jintArray, jfloatArray, jfloatArray, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c_1d
+ * Signature: (I[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c_11d
+  (JNIEnv *, jclass, jint, jfloatArray, jfloatArray, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c_2d
+ * Signature: (II[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c_12d
+  (JNIEnv *, jclass, jint, jint, jfloatArray, jfloatArray, jint);
+
+/*
+ * Class:     jfftw_planning_FloatPrimitivePlan
+ * Method:    jfftwf_plan_dft_r2c_3d
+ * Signature: (III[F[FI)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_FloatPrimitivePlan_jfftwf_1plan_1dft_1r2c_13d
+  (JNIEnv *, jclass, jint, jint, jint, jfloatArray, jfloatArray, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
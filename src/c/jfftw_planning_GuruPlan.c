@@ -0,0 +1,248 @@
+#include <stdlib.h>
+#include "jfftw_planning_GuruPlan.h"
+#include "jfftw.h"
+
+/*
+ * Copies flattened (n, is, os) triples into a newly allocated guru dimension array.
+ */
+static fftw_iodim64 *get_iodims(JNIEnv *env, jlongArray jdims, int *rank) {
+    jsize len = (*env)->GetArrayLength(env, jdims);
+    jlong *flat = (jlong *) malloc((len > 0 ? len : 1) * sizeof(jlong));
+    fftw_iodim64 *dims = (fftw_iodim64 *) malloc((len > 0 ? len / 3 : 1) * sizeof(fftw_iodim64));
+    (*env)->GetLongArrayRegion(env, jdims, 0, len, flat);
+    for (jsize i = 0; i < len / 3; i++) {
+        dims[i].n = (ptrdiff_t) flat[3 * i];
+        dims[i].is = (ptrdiff_t) flat[3 * i + 1];
+        dims[i].os = (ptrdiff_t) flat[3 * i + 2];
+    }
+    free(flat);
+    *rank = len / 3;
+    return dims;
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_dft
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jci, jobject jco) {
+    fftw_plan plan = (fftw_plan) jplan;
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jci);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jco);
+    fftw_execute_dft(plan, ci, co);
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_split_dft
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1split_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jri, jobject jii, jobject jro, jobject jio) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ii = (double *) get_direct_buffer(env, jii);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    double *io = (double *) get_direct_buffer(env, jio);
+    fftw_execute_split_dft(plan, ri, ii, ro, io);
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jri, jobject jco) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_direct_buffer(env, jri);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jco);
+    fftw_execute_dft_r2c(plan, ri, co);
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_split_dft_r2c
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1split_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jri, jobject jro, jobject jio) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    double *io = (double *) get_direct_buffer(env, jio);
+    fftw_execute_split_dft_r2c(plan, ri, ro, io);
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jci, jobject jro) {
+    fftw_plan plan = (fftw_plan) jplan;
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jci);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    fftw_execute_dft_c2r(plan, ci, ro);
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_split_dft_c2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1split_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jri, jobject jii, jobject jro) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ii = (double *) get_direct_buffer(env, jii);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    fftw_execute_split_dft_c2r(plan, ri, ii, ro);
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_r2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1r2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jobject jri, jobject jro) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    fftw_execute_r2r(plan, ri, ro);
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_dft
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1dft
+  (JNIEnv *env, jclass clazz, jlongArray jdims, jlongArray jhowmany, jobject jci, jobject jco, jint sign, jint flags) {
+    int rank, howmany_rank;
+    fftw_iodim64 *dims = get_iodims(env, jdims, &rank);
+    fftw_iodim64 *howmany = get_iodims(env, jhowmany, &howmany_rank);
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jci);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jco);
+    fftw_plan plan = fftw_plan_guru64_dft(rank, dims, howmany_rank, howmany, ci, co, sign, flags);
+    free(dims);
+    free(howmany);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_split_dft
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1split_1dft
+  (JNIEnv *env, jclass clazz, jlongArray jdims, jlongArray jhowmany, jobject jri, jobject jii, jobject jro, jobject jio, jint flags) {
+    int rank, howmany_rank;
+    fftw_iodim64 *dims = get_iodims(env, jdims, &rank);
+    fftw_iodim64 *howmany = get_iodims(env, jhowmany, &howmany_rank);
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ii = (double *) get_direct_buffer(env, jii);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    double *io = (double *) get_direct_buffer(env, jio);
+    fftw_plan plan = fftw_plan_guru64_split_dft(rank, dims, howmany_rank, howmany, ri, ii, ro, io, flags);
+    free(dims);
+    free(howmany);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_dft_r2c
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlongArray jdims, jlongArray jhowmany, jobject jri, jobject jco, jint flags) {
+    int rank, howmany_rank;
+    fftw_iodim64 *dims = get_iodims(env, jdims, &rank);
+    fftw_iodim64 *howmany = get_iodims(env, jhowmany, &howmany_rank);
+    double *ri = (double *) get_direct_buffer(env, jri);
+    fftw_complex *co = (fftw_complex *) get_direct_buffer(env, jco);
+    fftw_plan plan = fftw_plan_guru64_dft_r2c(rank, dims, howmany_rank, howmany, ri, co, flags);
+    free(dims);
+    free(howmany);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_split_dft_r2c
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1split_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlongArray jdims, jlongArray jhowmany, jobject jri, jobject jro, jobject jio, jint flags) {
+    int rank, howmany_rank;
+    fftw_iodim64 *dims = get_iodims(env, jdims, &rank);
+    fftw_iodim64 *howmany = get_iodims(env, jhowmany, &howmany_rank);
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    double *io = (double *) get_direct_buffer(env, jio);
+    fftw_plan plan = fftw_plan_guru64_split_dft_r2c(rank, dims, howmany_rank, howmany, ri, ro, io, flags);
+    free(dims);
+    free(howmany);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_dft_c2r
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlongArray jdims, jlongArray jhowmany, jobject jci, jobject jro, jint flags) {
+    int rank, howmany_rank;
+    fftw_iodim64 *dims = get_iodims(env, jdims, &rank);
+    fftw_iodim64 *howmany = get_iodims(env, jhowmany, &howmany_rank);
+    fftw_complex *ci = (fftw_complex *) get_direct_buffer(env, jci);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    fftw_plan plan = fftw_plan_guru64_dft_c2r(rank, dims, howmany_rank, howmany, ci, ro, flags);
+    free(dims);
+    free(howmany);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_split_dft_c2r
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1split_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlongArray jdims, jlongArray jhowmany, jobject jri, jobject jii, jobject jro, jint flags) {
+    int rank, howmany_rank;
+    fftw_iodim64 *dims = get_iodims(env, jdims, &rank);
+    fftw_iodim64 *howmany = get_iodims(env, jhowmany, &howmany_rank);
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ii = (double *) get_direct_buffer(env, jii);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    fftw_plan plan = fftw_plan_guru64_split_dft_c2r(rank, dims, howmany_rank, howmany, ri, ii, ro, flags);
+    free(dims);
+    free(howmany);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_r2r
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;[II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1r2r
+  (JNIEnv *env, jclass clazz, jlongArray jdims, jlongArray jhowmany, jobject jri, jobject jro, jintArray jkinds, jint flags) {
+    int rank, howmany_rank;
+    fftw_iodim64 *dims = get_iodims(env, jdims, &rank);
+    fftw_iodim64 *howmany = get_iodims(env, jhowmany, &howmany_rank);
+    fftw_r2r_kind *kinds = (fftw_r2r_kind *) (*env)->GetPrimitiveArrayCritical(env, jkinds, 0);
+    double *ri = (double *) get_direct_buffer(env, jri);
+    double *ro = (double *) get_direct_buffer(env, jro);
+    fftw_plan plan = fftw_plan_guru64_r2r(rank, dims, howmany_rank, howmany, ri, ro, kinds, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jkinds, kinds, JNI_ABORT);
+    free(dims);
+    free(howmany);
+    return (jlong) plan;
+}
@@ -0,0 +1,125 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class jfftw_planning_GuruPlan */
+
+#ifndef _Included_jfftw_planning_GuruPlan
+#define _Included_jfftw_planning_GuruPlan
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_dft
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1dft
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_split_dft
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1split_1dft
+  (JNIEnv *, jclass, jlong, jobject, jobject, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_split_dft_r2c
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1split_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jobject, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_split_dft_c2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1split_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jobject, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_execute_r2r
+ * Signature: (JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_GuruPlan_jfftw_1execute_1r2r
+  (JNIEnv *, jclass, jlong, jobject, jobject);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_dft
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1dft
+  (JNIEnv *, jclass, jlongArray, jlongArray, jobject, jobject, jint, jint);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_split_dft
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1split_1dft
+  (JNIEnv *, jclass, jlongArray, jlongArray, jobject, jobject, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_dft_r2c
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1dft_1r2c
+  (JNIEnv *, jclass, jlongArray, jlongArray, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_split_dft_r2c
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1split_1dft_1r2c
+  (JNIEnv *, jclass, jlongArray, jlongArray, jobject, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_dft_c2r
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1dft_1c2r
+  (JNIEnv *, jclass, jlongArray, jlongArray, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_split_dft_c2r
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1split_1dft_1c2r
+  (JNIEnv *, jclass, jlongArray, jlongArray, jobject, jobject, jobject, jint);
+
+/*
+ * Class:     jfftw_planning_GuruPlan
+ * Method:    jfftw_plan_guru64_r2r
+ * Signature: ([J[JLjava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;[II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_GuruPlan_jfftw_1plan_1guru64_1r2r
+  (JNIEnv *, jclass, jlongArray, jlongArray, jobject, jobject, jintArray, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -10,50 +10,114 @@ extern "C" {
 /*
  * Class:     jfftw_planning_Plan
  * Method:    jfftw_cost
- * Signature: (Ljfftw/planning/Plan;)D
+ * Signature: (J)D
  */
 JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftw_1cost
-  (JNIEnv *, jclass, jobject);
+  (JNIEnv *, jclass, jlong);
 
 /*
  * Class:     jfftw_planning_Plan
  * Method:    jfftw_destroy_plan
- * Signature: (Ljfftw/planning/Plan;)V
+ * Signature: (J)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftw_1destroy_1plan
-  (JNIEnv *, jclass, jobject);
+  (JNIEnv *, jclass, jlong);
 
 /*
  * Class:     jfftw_planning_Plan
  * Method:    jfftw_estimate_cost
- * Signature: (Ljfftw/planning/Plan;)D
+ * Signature: (J)D
  */
 JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftw_1estimate_1cost
-  (JNIEnv *, jclass, jobject);
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftw_flops
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftw_1flops
+  (JNIEnv *, jclass, jlong);
 
 /*
  * Class:     jfftw_planning_Plan
  * Method:    jfftw_execute
- * Signature: (Ljfftw/planning/Plan;)V
+ * Signature: (J)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftw_1execute
-  (JNIEnv *, jclass, jobject);
+  (JNIEnv *, jclass, jlong);
 
 /*
  * Class:     jfftw_planning_Plan
  * Method:    jfftw_print_plan
- * Signature: (Ljfftw/planning/Plan;)V
+ * Signature: (J)V
  */
 JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftw_1print_1plan
-  (JNIEnv *, jclass, jobject);
+  (JNIEnv *, jclass, jlong);
 
 /*
  * Class:     jfftw_planning_Plan
  * Method:    jfftw_sprint_plan
- * Signature: (Ljfftw/planning/Plan;)Ljava/lang/String;
+ * Signature: (J)Ljava/lang/String;
  */
 JNIEXPORT jstring JNICALL Java_jfftw_planning_Plan_jfftw_1sprint_1plan
-  (JNIEnv *, jclass, jobject);
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_cost
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftwf_1cost
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_destroy_plan
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftwf_1destroy_1plan
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_estimate_cost
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftwf_1estimate_1cost
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_flops
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_jfftw_planning_Plan_jfftwf_1flops
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_execute
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftwf_1execute
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_print_plan
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Plan_jfftwf_1print_1plan
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     jfftw_planning_Plan
+ * Method:    jfftwf_sprint_plan
+ * Signature: (J)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_jfftw_planning_Plan_jfftwf_1sprint_1plan
+  (JNIEnv *, jclass, jlong);
 
 #ifdef __cplusplus
 }
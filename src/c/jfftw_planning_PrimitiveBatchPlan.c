@@ -0,0 +1,98 @@
+#include "jfftw_planning_PrimitiveBatchPlan.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_execute_dft
+ * Signature: (J[D[D)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1execute_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jdoubleArray jin, jdoubleArray jout) {
+    fftw_plan plan = (fftw_plan) jplan;
+    fftw_complex *ci = (fftw_complex *) get_array(env, jin);
+    fftw_complex *co = (fftw_complex *) get_array(env, jout);
+    fftw_execute_dft(plan, ci, co);
+    release_array(env, jin, ci, JNI_ABORT);
+    release_array(env, jout, co, 0);
+}
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (J[D[D)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jdoubleArray jin, jdoubleArray jout) {
+    fftw_plan plan = (fftw_plan) jplan;
+    fftw_complex *ci = (fftw_complex *) get_array(env, jin);
+    double *ro = (double *) get_array(env, jout);
+    fftw_execute_dft_c2r(plan, ci, ro);
+    release_array(env, jin, ci, JNI_ABORT);
+    release_array(env, jout, ro, 0);
+}
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (J[D[D)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jdoubleArray jin, jdoubleArray jout) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_array(env, jin);
+    fftw_complex *co = (fftw_complex *) get_array(env, jout);
+    fftw_execute_dft_r2c(plan, ri, co);
+    release_array(env, jin, ri, JNI_ABORT);
+    release_array(env, jout, co, 0);
+}
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_plan_many_dft
+ * Signature: (I[II[DII[DIIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1plan_1many_1dft
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jint howmany, jdoubleArray jin, jint istride, jint idist, jdoubleArray jout, jint ostride, jint odist, jint sign, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftw_complex *ci = (fftw_complex *) get_array(env, jin);
+    fftw_complex *co = (fftw_complex *) get_array(env, jout);
+    fftw_plan plan = fftw_plan_many_dft(rank, dims, howmany, ci, NULL, istride, idist, co, NULL, ostride, odist, sign, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_plan_many_dft_c2r
+ * Signature: (I[II[DII[DIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1plan_1many_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jint howmany, jdoubleArray jin, jint istride, jint idist, jdoubleArray jout, jint ostride, jint odist, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftw_complex *ci = (fftw_complex *) get_array(env, jin);
+    double *ro = (double *) get_array(env, jout);
+    fftw_plan plan = fftw_plan_many_dft_c2r(rank, dims, howmany, ci, NULL, istride, idist, ro, NULL, ostride, odist, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_plan_many_dft_r2c
+ * Signature: (I[II[DII[DIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1plan_1many_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jint howmany, jdoubleArray jin, jint istride, jint idist, jdoubleArray jout, jint ostride, jint odist, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    double *ri = (double *) get_array(env, jin);
+    fftw_complex *co = (fftw_complex *) get_array(env, jout);
+    fftw_plan plan = fftw_plan_many_dft_r2c(rank, dims, howmany, ri, NULL, istride, idist, co, NULL, ostride, odist, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
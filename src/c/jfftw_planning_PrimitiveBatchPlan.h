@@ -0,0 +1,61 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class jfftw_planning_PrimitiveBatchPlan */
+
+#ifndef _Included_jfftw_planning_PrimitiveBatchPlan
+#define _Included_jfftw_planning_PrimitiveBatchPlan
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_execute_dft
+ * Signature: (J[D[D)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1execute_1dft
+  (JNIEnv *, jclass, jlong, jdoubleArray, jdoubleArray);
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (J[D[D)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jdoubleArray, jdoubleArray);
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (J[D[D)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jdoubleArray, jdoubleArray);
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_plan_many_dft
+ * Signature: (I[II[DII[DIIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1plan_1many_1dft
+  (JNIEnv *, jclass, jint, jintArray, jint, jdoubleArray, jint, jint, jdoubleArray, jint, jint, jint, jint);
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_plan_many_dft_c2r
+ * Signature: (I[II[DII[DIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1plan_1many_1dft_1c2r
+  (JNIEnv *, jclass, jint, jintArray, jint, jdoubleArray, jint, jint, jdoubleArray, jint, jint, jint);
+
+/*
+ * Class:     jfftw_planning_PrimitiveBatchPlan
+ * Method:    jfftw_plan_many_dft_r2c
+ * Signature: (I[II[DII[DIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitiveBatchPlan_jfftw_1plan_1many_1dft_1r2c
+  (JNIEnv *, jclass, jint, jintArray, jint, jdoubleArray, jint, jint, jdoubleArray, jint, jint, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
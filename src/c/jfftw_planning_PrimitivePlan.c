@@ -4,46 +4,73 @@
 /*
  * Class:     jfftw_planning_PrimitivePlan
  * Method:    jfftw_execute_dft
- * Signature: (Ljfftw/planning/PrimitivePlan;[D[D)V
+ * Signature: (J[D[DII)Z
  */
-JNIEXPORT void JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft
-  (JNIEnv *env, jclass clazz, jobject jplan, jdoubleArray jin, jdoubleArray jout) {
-    fftw_plan plan = get_fftw_plan(env, jplan);
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jdoubleArray jin, jdoubleArray jout, jint ia, jint oa) {
+    fftw_plan plan = (fftw_plan) jplan;
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
-    fftw_execute_dft(plan, ci, co);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    jboolean aligned = is_aligned(ci, ia) && is_aligned(co, oa);
+    if (aligned)
+        fftw_execute_dft(plan, ci, co);
+    release_array(env, jin, ci, JNI_ABORT);
+    release_array(env, jout, co, 0);
+    return aligned;
 }
 
 /*
  * Class:     jfftw_planning_PrimitivePlan
  * Method:    jfftw_execute_dft_c2r
- * Signature: (Ljfftw/planning/PrimitivePlan;[D[D)V
+ * Signature: (J[D[DII)Z
  */
-JNIEXPORT void JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1c2r
-  (JNIEnv *env, jclass clazz, jobject jplan, jdoubleArray jin, jdoubleArray jout) {
-    fftw_plan plan = get_fftw_plan(env, jplan);
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jdoubleArray jin, jdoubleArray jout, jint ia, jint oa) {
+    fftw_plan plan = (fftw_plan) jplan;
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     double *ro = (double *) get_array(env, jout);
-    fftw_execute_dft_c2r(plan, ci, ro);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, ro, JNI_COMMIT);
+    jboolean aligned = is_aligned(ci, ia) && is_aligned(ro, oa);
+    if (aligned)
+        fftw_execute_dft_c2r(plan, ci, ro);
+    release_array(env, jin, ci, JNI_ABORT);
+    release_array(env, jout, ro, 0);
+    return aligned;
 }
 
 /*
  * Class:     jfftw_planning_PrimitivePlan
  * Method:    jfftw_execute_dft_r2c
- * Signature: (Ljfftw/planning/PrimitivePlan;[D[D)V
+ * Signature: (J[D[DII)Z
  */
-JNIEXPORT void JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1r2c
-  (JNIEnv *env, jclass clazz, jobject jplan, jdoubleArray jin, jdoubleArray jout) {
-    fftw_plan plan = get_fftw_plan(env, jplan);
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jdoubleArray jin, jdoubleArray jout, jint ia, jint oa) {
+    fftw_plan plan = (fftw_plan) jplan;
     double *ri = (double *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
-    fftw_execute_dft_r2c(plan, ri, co);
-    release_array(env, jin, ri, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    jboolean aligned = is_aligned(ri, ia) && is_aligned(co, oa);
+    if (aligned)
+        fftw_execute_dft_r2c(plan, ri, co);
+    release_array(env, jin, ri, JNI_ABORT);
+    release_array(env, jout, co, 0);
+    return aligned;
+}
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_execute_r2r
+ * Signature: (J[D[DII)Z
+ */
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1r2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jdoubleArray jin, jdoubleArray jout, jint ia, jint oa) {
+    fftw_plan plan = (fftw_plan) jplan;
+    double *ri = (double *) get_array(env, jin);
+    double *ro = (double *) get_array(env, jout);
+    jboolean aligned = is_aligned(ri, ia) && is_aligned(ro, oa);
+    if (aligned)
+        fftw_execute_r2r(plan, ri, ro);
+    release_array(env, jin, ri, JNI_ABORT);
+    release_array(env, jout, ro, 0);
+    return aligned;
 }
 
 /*
@@ -57,9 +84,9 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft(rank, dims, ci, co, sign, flags);
-    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_COMMIT);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
     return (jlong) plan;
 }
 
@@ -73,8 +100,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_11d
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_1d(n, ci, co, sign, flags);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
     return (jlong) plan;
 }
 
@@ -88,8 +115,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_12d
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_2d(n0, n1, ci, co, sign, flags);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
     return (jlong) plan;
 }
 
@@ -103,8 +130,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_13d
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_3d(n0, n1, n2, ci, co, sign, flags);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, co, 0);
     return (jlong) plan;
 }
 
@@ -119,9 +146,9 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1c2r
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     double *ro = (double *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_c2r(rank, dims, ci, ro, flags);
-    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_COMMIT);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, ro, JNI_COMMIT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
     return (jlong) plan;
 }
 
@@ -135,8 +162,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1c2r_
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     double *ro = (double *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_c2r_1d(n, ci, ro, flags);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, ro, JNI_COMMIT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
     return (jlong) plan;
 }
 
@@ -150,8 +177,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1c2r_
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     double *ro = (double *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_c2r_2d(n0, n1, ci, ro, flags);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, ro, JNI_COMMIT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
     return (jlong) plan;
 }
 
@@ -165,8 +192,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1c2r_
     fftw_complex *ci = (fftw_complex *) get_array(env, jin);
     double *ro = (double *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_c2r_3d(n0, n1, n2, ci, ro, flags);
-    release_array(env, jin, ci, JNI_COMMIT);
-    release_array(env, jout, ro, JNI_COMMIT);
+    release_array(env, jin, ci, 0);
+    release_array(env, jout, ro, 0);
     return (jlong) plan;
 }
 
@@ -181,9 +208,9 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1r2c
     double *ri = (double *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_r2c(rank, dims, ri, co, flags);
-    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_COMMIT);
-    release_array(env, jin, ri, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
     return (jlong) plan;
 }
 
@@ -197,8 +224,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1r2c_
     double *ri = (double *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_r2c_1d(n, ri, co, flags);
-    release_array(env, jin, ri, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
     return (jlong) plan;
 }
 
@@ -212,8 +239,8 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1r2c_
     double *ri = (double *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_r2c_2d(n0, n1, ri, co, flags);
-    release_array(env, jin, ri, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
     return (jlong) plan;
 }
 
@@ -227,7 +254,71 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1r2c_
     double *ri = (double *) get_array(env, jin);
     fftw_complex *co = (fftw_complex *) get_array(env, jout);
     fftw_plan plan = fftw_plan_dft_r2c_3d(n0, n1, n2, ri, co, flags);
-    release_array(env, jin, ri, JNI_COMMIT);
-    release_array(env, jout, co, JNI_COMMIT);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, co, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r
+ * Signature: (I[I[D[D[II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r
+  (JNIEnv *env, jclass clazz, jint rank, jintArray jdims, jdoubleArray jin, jdoubleArray jout, jintArray jkinds, jint flags) {
+    int *dims = (int *) (*env)->GetPrimitiveArrayCritical(env, jdims, 0);
+    fftw_r2r_kind *kinds = (fftw_r2r_kind *) (*env)->GetPrimitiveArrayCritical(env, jkinds, 0);
+    double *ri = (double *) get_array(env, jin);
+    double *ro = (double *) get_array(env, jout);
+    fftw_plan plan = fftw_plan_r2r(rank, dims, ri, ro, kinds, flags);
+    (*env)->ReleasePrimitiveArrayCritical(env, jkinds, kinds, JNI_ABORT);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdims, dims, JNI_ABORT);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r_1d
+ * Signature: (I[D[DII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r_11d
+  (JNIEnv *env, jclass clazz, jint n, jdoubleArray jin, jdoubleArray jout, jint kind, jint flags) {
+    double *ri = (double *) get_array(env, jin);
+    double *ro = (double *) get_array(env, jout);
+    fftw_plan plan = fftw_plan_r2r_1d(n, ri, ro, kind, flags);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r_2d
+ * Signature: (II[D[DIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r_12d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jdoubleArray jin, jdoubleArray jout, jint kind0, jint kind1, jint flags) {
+    double *ri = (double *) get_array(env, jin);
+    double *ro = (double *) get_array(env, jout);
+    fftw_plan plan = fftw_plan_r2r_2d(n0, n1, ri, ro, kind0, kind1, flags);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, ro, 0);
+    return (jlong) plan;
+}
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r_3d
+ * Signature: (III[D[DIIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r_13d
+  (JNIEnv *env, jclass clazz, jint n0, jint n1, jint n2, jdoubleArray jin, jdoubleArray jout, jint kind0, jint kind1, jint kind2, jint flags) {
+    double *ri = (double *) get_array(env, jin);
+    double *ro = (double *) get_array(env, jout);
+    fftw_plan plan = fftw_plan_r2r_3d(n0, n1, n2, ri, ro, kind0, kind1, kind2, flags);
+    release_array(env, jin, ri, 0);
+    release_array(env, jout, ro, 0);
     return (jlong) plan;
 }
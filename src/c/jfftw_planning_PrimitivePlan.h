@@ -10,26 +10,34 @@ extern "C" {
 /*
  * Class:     jfftw_planning_PrimitivePlan
  * Method:    jfftw_execute_dft
- * Signature: (Ljfftw/planning/PrimitivePlan;[D[D)V
+ * Signature: (J[D[DII)Z
  */
-JNIEXPORT void JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft
-  (JNIEnv *, jclass, jobject, jdoubleArray, jdoubleArray);
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft
+  (JNIEnv *, jclass, jlong, jdoubleArray, jdoubleArray, jint, jint);
 
 /*
  * Class:     jfftw_planning_PrimitivePlan
  * Method:    jfftw_execute_dft_c2r
- * Signature: (Ljfftw/planning/PrimitivePlan;[D[D)V
+ * Signature: (J[D[DII)Z
  */
-JNIEXPORT void JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1c2r
-  (JNIEnv *, jclass, jobject, jdoubleArray, jdoubleArray);
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jdoubleArray, jdoubleArray, jint, jint);
 
 /*
  * Class:     jfftw_planning_PrimitivePlan
  * Method:    jfftw_execute_dft_r2c
- * Signature: (Ljfftw/planning/PrimitivePlan;[D[D)V
+ * Signature: (J[D[DII)Z
  */
-JNIEXPORT void JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1r2c
-  (JNIEnv *, jclass, jobject, jdoubleArray, jdoubleArray);
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jdoubleArray, jdoubleArray, jint, jint);
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_execute_r2r
+ * Signature: (J[D[DII)Z
+ */
+JNIEXPORT jboolean JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1execute_1r2r
+  (JNIEnv *, jclass, jlong, jdoubleArray, jdoubleArray, jint, jint);
 
 /*
  * Class:     jfftw_planning_PrimitivePlan
@@ -127,6 +135,38 @@ JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1r2c_
 JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1dft_1r2c_13d
   (JNIEnv *, jclass, jint, jint, jint, jdoubleArray, jdoubleArray, jint);
 
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r
+ * Signature: (I[I[D[D[II)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r
+  (JNIEnv *, jclass, jint, jintArray, jdoubleArray, jdoubleArray, jintArray, jint);
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r_1d
+ * Signature: (I[D[DII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r_11d
+  (JNIEnv *, jclass, jint, jdoubleArray, jdoubleArray, jint, jint);
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r_2d
+ * Signature: (II[D[DIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r_12d
+  (JNIEnv *, jclass, jint, jint, jdoubleArray, jdoubleArray, jint, jint, jint);
+
+/*
+ * Class:     jfftw_planning_PrimitivePlan
+ * Method:    jfftw_plan_r2r_3d
+ * Signature: (III[D[DIIII)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_PrimitivePlan_jfftw_1plan_1r2r_13d
+  (JNIEnv *, jclass, jint, jint, jint, jdoubleArray, jdoubleArray, jint, jint, jint, jint);
+
 #ifdef __cplusplus
 }
 #endif
@@ -0,0 +1,52 @@
+#include "jfftw_planning_Registration.h"
+#include "jfftw.h"
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_address_of
+ * Signature: (Ljava/nio/DoubleBuffer;)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_Registration_jfftw_1address_1of
+  (JNIEnv *env, jclass clazz, jobject jbuff) {
+    return (jlong) get_direct_buffer(env, jbuff);
+}
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_dft
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1dft
+  (JNIEnv *env, jclass clazz, jlong jplan, jlong jin, jlong jout) {
+    fftw_execute_dft((fftw_plan) jplan, (fftw_complex *) jin, (fftw_complex *) jout);
+}
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1dft_1c2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jlong jin, jlong jout) {
+    fftw_execute_dft_c2r((fftw_plan) jplan, (fftw_complex *) jin, (double *) jout);
+}
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1dft_1r2c
+  (JNIEnv *env, jclass clazz, jlong jplan, jlong jin, jlong jout) {
+    fftw_execute_dft_r2c((fftw_plan) jplan, (double *) jin, (fftw_complex *) jout);
+}
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_r2r
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1r2r
+  (JNIEnv *env, jclass clazz, jlong jplan, jlong jin, jlong jout) {
+    fftw_execute_r2r((fftw_plan) jplan, (double *) jin, (double *) jout);
+}
@@ -0,0 +1,53 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class jfftw_planning_Registration */
+
+#ifndef _Included_jfftw_planning_Registration
+#define _Included_jfftw_planning_Registration
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_address_of
+ * Signature: (Ljava/nio/DoubleBuffer;)J
+ */
+JNIEXPORT jlong JNICALL Java_jfftw_planning_Registration_jfftw_1address_1of
+  (JNIEnv *, jclass, jobject);
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_dft
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1dft
+  (JNIEnv *, jclass, jlong, jlong, jlong);
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_dft_c2r
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1dft_1c2r
+  (JNIEnv *, jclass, jlong, jlong, jlong);
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_dft_r2c
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1dft_1r2c
+  (JNIEnv *, jclass, jlong, jlong, jlong);
+
+/*
+ * Class:     jfftw_planning_Registration
+ * Method:    jfftw_execute_r2r
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_jfftw_planning_Registration_jfftw_1execute_1r2r
+  (JNIEnv *, jclass, jlong, jlong, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
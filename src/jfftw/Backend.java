@@ -0,0 +1,31 @@
+package jfftw;
+
+/**
+ * Native binding which executes and manages plans by address.
+ * <p>
+ * Every plan is bound to the backend which created it. The JNI backend is used by the plans in
+ * {@link jfftw.planning}. The foreign function backend is used by the segment plans of the
+ * separate, opt-in <code>jfftw.panama</code> package, which binds FFTW without the JNI library
+ * and has its own planner settings and wisdom.
+ */
+public interface Backend {
+
+    void execute(long plan);
+
+    /**
+     * Destroys a plan. Callers hold {@link Interface#PLANNER}, normally by way of {@link Destroyer}.
+     *
+     * @param plan address of the plan
+     */
+    void destroy(long plan);
+
+    double cost(long plan);
+
+    double estimateCost(long plan);
+
+    double flops(long plan);
+
+    void print(long plan);
+
+    String sprint(long plan);
+}
@@ -0,0 +1,74 @@
+package jfftw;
+
+import java.util.ArrayDeque;
+
+/**
+ * Destroys native plans on a daemon thread, so closing a plan never waits for the planner lock.
+ * <p>
+ * FFTW destroys plans with its planner, so every destruction holds {@link Interface#PLANNER}.
+ * A thread which already holds the lock destroys at once. Any other thread, e.g. the last
+ * execution leaving a closed plan or the Cleaner, queues the destruction for the destroyer
+ * thread, which runs everything queued under one acquisition of the lock.
+ */
+public final class Destroyer {
+
+    // guarded by itself
+    private static final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+
+    static {
+        Thread t = new Thread(Destroyer::loop, "jfftw-destroyer");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private Destroyer() {}
+
+    /**
+     * Runs a destruction under {@link Interface#PLANNER}, now if the calling thread holds it,
+     * otherwise on the destroyer thread.
+     *
+     * @param destruction call into FFTW's planner which destroys a plan
+     */
+    public static void destroy(Runnable destruction) {
+        if (Thread.holdsLock(Interface.PLANNER)) {
+            destruction.run();
+            return;
+        }
+        synchronized (pending) {
+            pending.add(destruction);
+            pending.notify();
+        }
+    }
+
+    /**
+     * Runs every queued destruction. FFTW's cleanup functions call this first, since plans must
+     * not be destroyed after them.
+     */
+    public static void drain() {
+        synchronized (Interface.PLANNER) {
+            for (Runnable r = next(); r != null; r = next())
+                r.run();
+        }
+    }
+
+    private static Runnable next() {
+        synchronized (pending) {
+            return pending.poll();
+        }
+    }
+
+    private static void loop() {
+        for (;;) {
+            synchronized (pending) {
+                while (pending.isEmpty()) {
+                    try {
+                        pending.wait();
+                    } catch (InterruptedException e) {
+                        // the destroyer runs for the life of the JVM
+                    }
+                }
+            }
+            drain();
+        }
+    }
+}
@@ -2,21 +2,35 @@ package jfftw;
 
 public class Interface {
 
+    /**
+     * Monitor held around every call into FFTW's planner: plan creation and destruction, wisdom
+     * and planner settings. FFTW's planner is not thread-safe, while executing plans, querying
+     * their cost and checking alignment are, and take no lock. Hold it to keep several planner
+     * calls together, e.g. a time limit and the plans it applies to.
+     */
+    public static final Object PLANNER = new Object();
+
     protected static boolean libsLoaded = false, threadsLoaded = false;
+    private static volatile double timelimit = -1;
 
 
-    protected static synchronized native void jfftw_cleanup();
-    protected static synchronized native void jfftw_cleanup_threads();
-    protected static synchronized native boolean jfftw_init_threads();
-    protected static synchronized native void jfftw_make_planner_thread_safe();
-    protected static synchronized native void jfftw_plan_with_nthreads(int nthreads);
-    protected static synchronized native void jfftw_set_timelimit(double t);
+    protected static native void jfftw_cleanup();
+    protected static native void jfftw_cleanup_threads();
+    protected static native boolean jfftw_init_threads();
+    protected static native void jfftw_make_planner_thread_safe();
+    protected static native void jfftw_plan_with_nthreads(int nthreads);
+    protected static native void jfftw_set_timelimit(double t);
+    protected static native String jfftw_version();
+    protected static native String jfftwf_version();
 
     /**
      * Cleans up FFTW internal state as if the program just began.
      */
     public static void cleanup() {
-        jfftw_cleanup();
+        synchronized (PLANNER) {
+            Destroyer.drain();
+            jfftw_cleanup();
+        }
     }
 
     /**
@@ -25,7 +39,10 @@ public class Interface {
      * You must not execute any previously created plans after calling this function.
      */
     public static void cleanupThreads() {
-        jfftw_cleanup_threads();
+        synchronized (PLANNER) {
+            Destroyer.drain();
+            jfftw_cleanup_threads();
+        }
     }
 
     /**
@@ -43,7 +60,9 @@ public class Interface {
         if (!threadsLoaded) {
             if (lib != null)
                 System.loadLibrary(lib);
-            threadsLoaded = jfftw_init_threads();
+            synchronized (PLANNER) {
+                threadsLoaded = jfftw_init_threads();
+            }
         }
         return threadsLoaded;
     }
@@ -55,7 +74,9 @@ public class Interface {
      * cannot control other programs which may be creating plans concurrently.
      */
     public static void makePlannerThreadSafe() {
-        jfftw_make_planner_thread_safe();
+        synchronized (PLANNER) {
+            jfftw_make_planner_thread_safe();
+        }
     }
 
     /**
@@ -64,7 +85,9 @@ public class Interface {
      * @param nthreads number of threads
      */
     public static void planWithNThreads(int nthreads) {
-        jfftw_plan_with_nthreads(nthreads);
+        synchronized (PLANNER) {
+            jfftw_plan_with_nthreads(nthreads);
+        }
     }
 
     /**
@@ -73,7 +96,46 @@ public class Interface {
      * @param t time in seconds
      */
     public static void setTimelimit(double t) {
-        jfftw_set_timelimit(t);
+        synchronized (PLANNER) {
+            jfftw_set_timelimit(t);
+            timelimit = t;
+        }
+    }
+
+    /**
+     * @return planning time limit in seconds last set, or -1 if planning is unlimited
+     */
+    public static double getTimelimit() {
+        return timelimit;
+    }
+
+    /**
+     * @return version string of the loaded FFTW library, e.g. <code>fftw-3.3.10-sse2-avx</code>
+     */
+    public static String version() {
+        return jfftw_version();
+    }
+
+    /**
+     * Requires the JFFTW library to be built with single precision support.
+     *
+     * @return version string of the loaded single precision FFTW library
+     */
+    public static String floatVersion() {
+        return jfftwf_version();
+    }
+
+    /**
+     * Loads the native single precision FFTW library.
+     * <p>
+     * Call this before {@link #loadLibraries(String, String)} when the JFFTW library was
+     * built with single precision support.
+     *
+     * @param fftwf name of the single precision FFTW library
+     */
+    public static void loadFloatLibrary(String fftwf) {
+        if (!libsLoaded)
+            System.loadLibrary(fftwf);
     }
 
     /**
@@ -0,0 +1,216 @@
+package jfftw.convolution;
+
+import jfftw.data.Dimensions;
+import jfftw.data.NativeBuffer;
+import jfftw.enums.Complexity;
+import jfftw.enums.ConvolutionMethod;
+import jfftw.enums.Flag;
+import jfftw.planning.DirectPlan;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Streaming FIR filter using FFT block convolution.
+ * <p>
+ * The filter spectrum is computed once. Input may be supplied in chunks of any length; each
+ * call consumes its chunk and writes as many output samples, delayed by {@link #latency()}
+ * samples, so no output is produced until the first block is complete. Processing does not
+ * allocate. A convolver keeps state between calls and is not thread-safe.
+ */
+public final class Convolver implements AutoCloseable {
+
+    private final ConvolutionMethod method;
+    private final int M, N, L;
+    private final double[] spectrum, overlap, pending;
+    private final NativeBuffer time, freq;
+    private final DoubleBuffer x, X;
+    private final DirectPlan forward, inverse;
+    private int fill;
+
+    /**
+     * Constructs a convolver with the block size of least estimated cost per output sample.
+     *
+     * @param filter impulse response
+     * @param method block stitching method
+     * @param flags  FFTW flags of the block transforms
+     */
+    public Convolver(double[] filter, ConvolutionMethod method, int flags) {
+        this(filter, method, flags, chooseBlockSize(filter.length));
+    }
+
+    /**
+     * Constructs a convolver with a given block size.
+     *
+     * @param filter    impulse response
+     * @param method    block stitching method
+     * @param flags     FFTW flags of the block transforms
+     * @param blockSize FFT length, at least the filter length
+     */
+    public Convolver(double[] filter, ConvolutionMethod method, int flags, int blockSize) {
+        if (filter.length == 0)
+            throw new IllegalArgumentException("filter is empty");
+        if (blockSize < filter.length)
+            throw new IllegalArgumentException("block size smaller than filter length");
+        this.method = method;
+        M = filter.length;
+        N = blockSize;
+        L = N - M + 1;
+        spectrum = new double[2 * (N / 2 + 1)];
+        overlap = new double[M - 1];
+        pending = new double[L];
+        time = NativeBuffer.allocateReal(N);
+        freq = NativeBuffer.allocateComplex(N);
+        x = time.get();
+        X = freq.get();
+        forward = new DirectPlan(x, X, -1, Complexity.REAL_TO_COMPLEX, flags, new Dimensions(N));
+        inverse = new DirectPlan(X, x, 1, Complexity.COMPLEX_TO_REAL, flags, new Dimensions(N));
+
+        clear(x, 0, N);
+        x.put(0, filter, 0, M);
+        forward.execute();
+        X.get(0, spectrum, 0, spectrum.length);
+        for (int i = 0; i < spectrum.length; i++)
+            spectrum[i] /= N;
+        clear(x, 0, N);
+    }
+
+    /**
+     * Filters a chunk of input.
+     *
+     * @param in     input samples
+     * @param inOff  offset of the first input sample
+     * @param len    number of samples to consume and produce
+     * @param out    output samples, may be the input array
+     * @param outOff offset of the first output sample
+     */
+    public void process(double[] in, int inOff, int len, double[] out, int outOff) {
+        if (inOff < 0 || len < 0 || inOff + len > in.length || outOff < 0 || outOff + len > out.length)
+            throw new IndexOutOfBoundsException("chunk outside array");
+        int head = method == ConvolutionMethod.OVERLAP_SAVE ? M - 1 : 0;
+        while (len > 0) {
+            int n = Math.min(len, L - fill);
+            x.put(head + fill, in, inOff, n);
+            System.arraycopy(pending, fill, out, outOff, n);
+            fill += n;
+            inOff += n;
+            outOff += n;
+            len -= n;
+            if (fill == L) {
+                block();
+                fill = 0;
+            }
+        }
+    }
+
+    /**
+     * Filters a whole array in place.
+     *
+     * @param samples input samples, replaced by output samples
+     */
+    public void process(double[] samples) {
+        process(samples, 0, samples.length, samples, 0);
+    }
+
+    /**
+     * @return number of samples by which the output lags the input
+     */
+    public int latency() {
+        return L;
+    }
+
+    /**
+     * @return FFT length of each block
+     */
+    public int blockSize() {
+        return N;
+    }
+
+    /**
+     * @return filter length
+     */
+    public int filterLength() {
+        return M;
+    }
+
+    /**
+     * Discards all buffered input and output, as if no input had been processed.
+     */
+    public void reset() {
+        fill = 0;
+        clear(x, 0, N);
+        Arrays.fill(overlap, 0);
+        Arrays.fill(pending, 0);
+    }
+
+    /**
+     * Destroys the plans and frees the block buffers.
+     */
+    @Override
+    public void close() {
+        forward.close();
+        inverse.close();
+        time.close();
+        freq.close();
+    }
+
+    /**
+     * Transforms one full block and leaves its L outputs in pending.
+     */
+    private void block() {
+        forward.execute();
+        for (int i = 0; i < spectrum.length; i += 2) {
+            double re = X.get(i), im = X.get(i + 1);
+            double hr = spectrum[i], hi = spectrum[i + 1];
+            X.put(i, re * hr - im * hi);
+            X.put(i + 1, re * hi + im * hr);
+        }
+        if (method == ConvolutionMethod.OVERLAP_SAVE) {
+            // the c2r transform overwrites x, so keep the input history in overlap first
+            x.get(L, overlap, 0, M - 1);
+            inverse.execute();
+            x.get(M - 1, pending, 0, L);
+            x.put(0, overlap, 0, M - 1);
+        } else {
+            inverse.execute();
+            for (int i = 0; i < L; i++)
+                pending[i] = x.get(i) + (i < M - 1 ? overlap[i] : 0);
+            for (int i = 0; i < M - 1; i++)
+                overlap[i] = x.get(L + i) + (L + i < M - 1 ? overlap[L + i] : 0);
+            clear(x, 0, N);
+        }
+    }
+
+    private static void clear(DoubleBuffer b, int from, int to) {
+        for (int i = from; i < to; i++)
+            b.put(i, 0);
+    }
+
+    /**
+     * Chooses the power of two block size with the least estimated transform cost per output
+     * sample, using FFTW's cost estimate of ESTIMATE plans.
+     *
+     * @param filterLength filter length
+     * @return block size
+     */
+    public static int chooseBlockSize(int filterLength) {
+        if (filterLength < 1)
+            throw new IllegalArgumentException("filter is empty");
+        int min = Integer.highestOneBit(Math.max(2 * filterLength - 1, 16) - 1) << 1;
+        int max = (int) Math.min(1 << 24, (long) min << 6);
+        int best = min;
+        double bestCost = Double.MAX_VALUE;
+        for (int n = min; n <= max && n > 0; n <<= 1) {
+            try (NativeBuffer r = NativeBuffer.allocateReal(n); NativeBuffer c = NativeBuffer.allocateComplex(n);
+                 DirectPlan f = new DirectPlan(r.get(), c.get(), -1, Complexity.REAL_TO_COMPLEX, Flag.combine(Flag.ESTIMATE), new Dimensions(n));
+                 DirectPlan i = new DirectPlan(c.get(), r.get(), 1, Complexity.COMPLEX_TO_REAL, Flag.combine(Flag.ESTIMATE), new Dimensions(n))) {
+                double cost = (f.estimateCost() + i.estimateCost() + 6.0 * (n / 2 + 1)) / (n - filterLength + 1);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = n;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -3,14 +3,17 @@ package jfftw.data;
 import jfftw.exceptions.NonDirectBufferException;
 
 import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.util.Objects;
 
 public class Alignment {
 
     protected final int align;
 
-    protected synchronized static native int jfftw_alignment_of(double[] arr);
-    protected synchronized static native int jfftw_alignment_of(DoubleBuffer arr);
+    protected static native int jfftw_alignment_of(double[] arr);
+    protected static native int jfftw_alignment_of(DoubleBuffer arr);
+    protected static native int jfftwf_alignment_of(float[] arr);
+    protected static native int jfftwf_alignment_of(FloatBuffer arr);
 
     /**
      * DoubleBuffer alignment wrapper
@@ -31,6 +34,34 @@ public class Alignment {
         align = jfftw_alignment_of(arr);
     }
 
+    /**
+     * FloatBuffer alignment wrapper
+     *
+     * @param buff buffer to test alignment
+     */
+    protected Alignment(FloatBuffer buff) {
+        if (!buff.isDirect())
+            throw new NonDirectBufferException();
+        align = jfftwf_alignment_of(buff);
+    }
+
+    /**
+     *
+     * @param arr array to test alignment
+     */
+    protected Alignment(float[] arr) {
+        align = jfftwf_alignment_of(arr);
+    }
+
+    /**
+     * Wraps an alignment already computed by <code>fftw_alignment_of</code>
+     *
+     * @param align FFTW alignment
+     */
+    public Alignment(int align) {
+        this.align = align;
+    }
+
     /**
      * Copy constructor
      *
@@ -69,6 +100,28 @@ public class Alignment {
         return new Alignment(arr);
     }
 
+    /**
+     * Determine the FFTW alignment of a direct FloatBuffer
+     *
+     * @param buff direct FloatBuffer to check alignment of
+     * @return alignment of buff
+     */
+    public static Alignment of(FloatBuffer buff) {
+        if (!buff.isDirect())
+            throw new NonDirectBufferException();
+        return new Alignment(buff);
+    }
+
+    /**
+     * Determine the FFTW alignment of a primitive float array
+     *
+     * @param arr array to check alignment of
+     * @return alignment of arr
+     */
+    public static Alignment of(float[] arr) {
+        return new Alignment(arr);
+    }
+
     /**
      * Bulk alignment constructor
      *
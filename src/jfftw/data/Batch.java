@@ -0,0 +1,118 @@
+package jfftw.data;
+
+import java.util.Objects;
+
+/**
+ * Describes how a block of equally sized transforms is laid out in one array.
+ * <p>
+ * Strides and distances are measured in elements of the array's type, i.e. complex
+ * elements for complex arrays and doubles for real arrays, exactly as in FFTW's
+ * <code>fftw_plan_many_dft</code>. A distance of 0 is resolved by the plan to the
+ * element count of one transform, giving contiguous transforms.
+ */
+public class Batch {
+
+    protected final int howmany, istride, idist, ostride, odist;
+
+    /**
+     * Construct a batch layout
+     *
+     * @param howmany number of transforms
+     * @param istride input stride between successive elements of one transform
+     * @param idist   input distance between the first elements of successive transforms
+     * @param ostride output stride between successive elements of one transform
+     * @param odist   output distance between the first elements of successive transforms
+     */
+    public Batch(int howmany, int istride, int idist, int ostride, int odist) {
+        if (howmany < 1)
+            throw new IllegalArgumentException("howmany must be positive");
+        if (istride < 1 || ostride < 1)
+            throw new IllegalArgumentException("strides must be positive");
+        if (idist < 0 || odist < 0)
+            throw new IllegalArgumentException("distances must not be negative");
+        this.howmany = howmany;
+        this.istride = istride;
+        this.idist = idist;
+        this.ostride = ostride;
+        this.odist = odist;
+    }
+
+    /**
+     * Construct a batch of contiguous transforms
+     *
+     * @param howmany number of transforms
+     */
+    public Batch(int howmany) {
+        this(howmany, 1, 0, 1, 0);
+    }
+
+    /**
+     * Copy constructor
+     *
+     * @param b object to copy from
+     */
+    public Batch(Batch b) {
+        this(b.howmany, b.istride, b.idist, b.ostride, b.odist);
+    }
+
+    /**
+     * @return number of transforms
+     */
+    public int getHowMany() {
+        return howmany;
+    }
+
+    /**
+     * @return input stride
+     */
+    public int getInputStride() {
+        return istride;
+    }
+
+    /**
+     * @return input distance
+     */
+    public int getInputDistance() {
+        return idist;
+    }
+
+    /**
+     * @return output stride
+     */
+    public int getOutputStride() {
+        return ostride;
+    }
+
+    /**
+     * @return output distance
+     */
+    public int getOutputDistance() {
+        return odist;
+    }
+
+    /**
+     * Replaces zero distances with the contiguous distances supplied.
+     *
+     * @param iElems elements in one input transform
+     * @param oElems elements in one output transform
+     * @return batch with explicit distances
+     */
+    public Batch resolve(int iElems, int oElems) {
+        return new Batch(howmany, istride, idist == 0 ? iElems * istride : idist,
+                ostride, odist == 0 ? oElems * ostride : odist);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Batch batch = (Batch) o;
+        return howmany == batch.howmany && istride == batch.istride && idist == batch.idist
+                && ostride == batch.ostride && odist == batch.odist;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(howmany, istride, idist, ostride, odist);
+    }
+}
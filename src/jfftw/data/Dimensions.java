@@ -31,6 +31,17 @@ public class Dimensions {
         return Arrays.copyOf(dimensions, dimensions.length);
     }
 
+    /**
+     * @return product of all dimensions, i.e. the number of points in one transform
+     * @throws ArithmeticException if the product overflows a long
+     */
+    public long product() {
+        long n = 1;
+        for (int d : dimensions)
+            n = Math.multiplyExact(n, d);
+        return n;
+    }
+
     /**
      * @return number of dimensions
      */
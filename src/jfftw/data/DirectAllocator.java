@@ -1,18 +1,101 @@
 package jfftw.data;
 
+import java.lang.ref.Cleaner;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 
+/**
+ * Allocates direct DoubleBuffers with FFTW's aligned allocator.
+ * <p>
+ * Memory is returned to FFTW once the buffer and every view derived from it become unreachable.
+ * Use {@link NativeBuffer} to release memory deterministically and {@link SlabAllocator} to
+ * carve many buffers out of one allocation.
+ */
 public class DirectAllocator {
 
+    static final Cleaner cleaner = Cleaner.create();
+
     protected synchronized static native ByteBuffer jfftw_alloc_complex(int N);
     protected synchronized static native ByteBuffer jfftw_alloc_real(int N);
+    protected synchronized static native ByteBuffer jfftw_malloc(int bytes);
+    protected synchronized static native void jfftw_free(long address);
+    protected static native long jfftw_address_of(ByteBuffer buff);
 
     public static DoubleBuffer allocateComplex(int N) {
-        return jfftw_alloc_complex(N).asDoubleBuffer();
+        return manage(jfftw_alloc_complex(N)).asDoubleBuffer();
     }
 
     public static DoubleBuffer allocateReal(int N) {
-        return jfftw_alloc_real(N).asDoubleBuffer();
+        return manage(jfftw_alloc_real(N)).asDoubleBuffer();
+    }
+
+    /**
+     * Allocates a buffer for an in-place real to complex or complex to real transform, holding
+     * either the padded real data or the complex half spectrum.
+     *
+     * @param dims transform dimensions
+     * @return buffer of {@link PaddedLayout#size()} doubles
+     */
+    public static DoubleBuffer allocatePaddedReal(Dimensions dims) {
+        return allocateReal(new PaddedLayout(dims).size());
+    }
+
+    /**
+     * Allocates a buffer with a given FFTW alignment by offsetting into an aligned allocation, so
+     * that a plan created on it may execute other buffers of the same alignment.
+     *
+     * @param N     number of doubles
+     * @param align alignment as returned by <code>fftw_alignment_of</code>
+     * @return buffer of N doubles
+     */
+    public static DoubleBuffer allocateAligned(int N, Alignment align) {
+        return aligned(manage(jfftw_alloc_real(N + offset(align))).asDoubleBuffer(), N, align);
+    }
+
+    /**
+     * @return offset in doubles from an aligned allocation to a buffer of the given alignment
+     */
+    static int offset(Alignment align) {
+        return align.get() / Double.BYTES;
+    }
+
+    /**
+     * @param root aligned allocation of N plus the offset of the alignment doubles
+     * @return view of N doubles with the alignment
+     */
+    static DoubleBuffer aligned(DoubleBuffer root, int N, Alignment align) {
+        int offset = offset(align);
+        root.position(offset);
+        root.limit(offset + N);
+        DoubleBuffer s = root.slice();
+        if (!Alignment.of(s).equals(align))
+            throw new IllegalArgumentException("alignment " + align.get() + " cannot be reproduced");
+        return s;
+    }
+
+    /**
+     * Frees FFTW memory when the buffer, and every view whose parent chain leads to it, is unreachable.
+     *
+     * @param root buffer returned by a native allocation
+     * @return root in native byte order
+     */
+    static ByteBuffer manage(ByteBuffer root) {
+        register(root);
+        return root;
+    }
+
+    /**
+     * Registers a native allocation with the cleaner.
+     *
+     * @param root buffer returned by a native allocation
+     * @return action which frees the allocation at most once
+     */
+    static Cleaner.Cleanable register(ByteBuffer root) {
+        if (root == null)
+            throw new OutOfMemoryError("FFTW allocation failed");
+        root.order(ByteOrder.nativeOrder());
+        long address = jfftw_address_of(root);
+        return cleaner.register(root, () -> jfftw_free(address));
     }
 }
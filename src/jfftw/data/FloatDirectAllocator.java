@@ -0,0 +1,34 @@
+package jfftw.data;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Allocates direct FloatBuffers with FFTW's single precision aligned allocator.
+ * <p>
+ * Memory is returned to FFTW once the buffer and every view derived from it become unreachable.
+ */
+public class FloatDirectAllocator {
+
+    protected synchronized static native ByteBuffer jfftwf_alloc_complex(int N);
+    protected synchronized static native ByteBuffer jfftwf_alloc_real(int N);
+    protected synchronized static native void jfftwf_free(long address);
+
+    public static FloatBuffer allocateComplex(int N) {
+        return manage(jfftwf_alloc_complex(N)).asFloatBuffer();
+    }
+
+    public static FloatBuffer allocateReal(int N) {
+        return manage(jfftwf_alloc_real(N)).asFloatBuffer();
+    }
+
+    private static ByteBuffer manage(ByteBuffer root) {
+        if (root == null)
+            throw new OutOfMemoryError("FFTW allocation failed");
+        root.order(ByteOrder.nativeOrder());
+        long address = DirectAllocator.jfftw_address_of(root);
+        DirectAllocator.cleaner.register(root, () -> jfftwf_free(address));
+        return root;
+    }
+}
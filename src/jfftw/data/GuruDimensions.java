@@ -0,0 +1,118 @@
+package jfftw.data;
+
+import java.util.Arrays;
+
+/**
+ * Transform and vector dimensions of a guru plan.
+ */
+public class GuruDimensions {
+
+    protected final IODim[] dims, howmany;
+
+    /**
+     * Construct guru dimensions
+     *
+     * @param dims    transform dimensions
+     * @param howmany nullable vector dimensions over which the transform is repeated
+     */
+    public GuruDimensions(IODim[] dims, IODim[] howmany) {
+        if (dims == null || dims.length == 0)
+            throw new IllegalArgumentException("guru plans require at least one dimension");
+        this.dims = Arrays.copyOf(dims, dims.length);
+        this.howmany = howmany == null ? new IODim[0] : Arrays.copyOf(howmany, howmany.length);
+    }
+
+    /**
+     * Copy constructor
+     *
+     * @param g object to copy from
+     */
+    public GuruDimensions(GuruDimensions g) {
+        this(g.dims, g.howmany);
+    }
+
+    /**
+     * @return copy of the transform dimensions
+     */
+    public IODim[] getDims() {
+        return Arrays.copyOf(dims, dims.length);
+    }
+
+    /**
+     * @return copy of the vector dimensions
+     */
+    public IODim[] getHowMany() {
+        return Arrays.copyOf(howmany, howmany.length);
+    }
+
+    /**
+     * @return number of transform dimensions
+     */
+    public int rank() {
+        return dims.length;
+    }
+
+    /**
+     * @return number of vector dimensions
+     */
+    public int howManyRank() {
+        return howmany.length;
+    }
+
+    /**
+     * @return transform lengths as Dimensions
+     */
+    public Dimensions toDimensions() {
+        int[] n = new int[dims.length];
+        for (int i = 0; i < dims.length; i++) {
+            if (dims[i].n > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("transform dimensions are limited to 2^31-1 points each");
+            n[i] = (int) dims[i].n;
+        }
+        return new Dimensions(n);
+    }
+
+    /**
+     * Number of elements an input array must hold.
+     *
+     * @param halfLast true if the input is the complex half of a real transform
+     * @return one more than the largest input element offset
+     */
+    public long inputExtent(boolean halfLast) {
+        return extent(true, halfLast);
+    }
+
+    /**
+     * Number of elements an output array must hold.
+     *
+     * @param halfLast true if the output is the complex half of a real transform
+     * @return one more than the largest output element offset
+     */
+    public long outputExtent(boolean halfLast) {
+        return extent(false, halfLast);
+    }
+
+    private long extent(boolean input, boolean halfLast) {
+        long last = 0;
+        for (int i = 0; i < dims.length; i++) {
+            long n = halfLast && i == dims.length - 1 ? dims[i].n / 2 + 1 : dims[i].n;
+            last = Math.addExact(last, Math.multiplyExact(n - 1, input ? dims[i].is : dims[i].os));
+        }
+        for (IODim d : howmany)
+            last = Math.addExact(last, Math.multiplyExact(d.n - 1, input ? d.is : d.os));
+        return last + 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GuruDimensions g = (GuruDimensions) o;
+        return Arrays.equals(dims, g.dims) && Arrays.equals(howmany, g.howmany);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(dims) + Arrays.hashCode(howmany);
+    }
+}
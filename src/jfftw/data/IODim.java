@@ -0,0 +1,65 @@
+package jfftw.data;
+
+import java.util.Objects;
+
+/**
+ * A single guru dimension, equivalent to FFTW's <code>fftw_iodim64</code>.
+ * <p>
+ * Strides are measured in elements of the array they apply to: complex elements for
+ * interleaved complex arrays and doubles for real or split arrays.
+ */
+public class IODim {
+
+    protected final long n, is, os;
+
+    /**
+     * Construct a guru dimension
+     *
+     * @param n  length of the dimension
+     * @param is input stride
+     * @param os output stride
+     */
+    public IODim(long n, long is, long os) {
+        if (n < 1)
+            throw new IllegalArgumentException("dimension length must be positive");
+        if (is < 0 || os < 0)
+            throw new IllegalArgumentException("strides must not be negative");
+        this.n = n;
+        this.is = is;
+        this.os = os;
+    }
+
+    /**
+     * @return length of the dimension
+     */
+    public long getN() {
+        return n;
+    }
+
+    /**
+     * @return input stride
+     */
+    public long getInputStride() {
+        return is;
+    }
+
+    /**
+     * @return output stride
+     */
+    public long getOutputStride() {
+        return os;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IODim d = (IODim) o;
+        return n == d.n && is == d.is && os == d.os;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(n, is, os);
+    }
+}
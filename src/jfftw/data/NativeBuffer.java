@@ -0,0 +1,87 @@
+package jfftw.data;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+/**
+ * A direct DoubleBuffer which owns its FFTW allocation.
+ * <p>
+ * {@link #close()} frees the memory immediately. Buffers which are never closed are freed once
+ * they become unreachable. Neither the buffer nor any view of it may be used after closing,
+ * as the memory may already belong to another allocation.
+ */
+public final class NativeBuffer implements AutoCloseable {
+
+    private final DoubleBuffer buffer;
+    private final Cleaner.Cleanable cleanable;
+    private volatile boolean closed;
+
+    private NativeBuffer(ByteBuffer root) {
+        cleanable = DirectAllocator.register(root);
+        buffer = root.asDoubleBuffer();
+    }
+
+    private NativeBuffer(ByteBuffer root, int N, Alignment align) {
+        cleanable = DirectAllocator.register(root);
+        DoubleBuffer view;
+        try {
+            view = DirectAllocator.aligned(root.asDoubleBuffer(), N, align);
+        } catch (RuntimeException e) {
+            cleanable.clean();
+            throw e;
+        }
+        buffer = view;
+    }
+
+    /**
+     * @param N number of complex elements
+     * @return owning buffer of 2 * N doubles
+     */
+    public static NativeBuffer allocateComplex(int N) {
+        return new NativeBuffer(DirectAllocator.jfftw_alloc_complex(N));
+    }
+
+    /**
+     * @param N number of real elements
+     * @return owning buffer of N doubles
+     */
+    public static NativeBuffer allocateReal(int N) {
+        return new NativeBuffer(DirectAllocator.jfftw_alloc_real(N));
+    }
+
+    /**
+     * @param N     number of doubles
+     * @param align alignment as returned by <code>fftw_alignment_of</code>
+     * @return owning buffer of N doubles with the alignment
+     * @see DirectAllocator#allocateAligned(int, Alignment)
+     */
+    public static NativeBuffer allocateAligned(int N, Alignment align) {
+        return new NativeBuffer(DirectAllocator.jfftw_alloc_real(N + DirectAllocator.offset(align)), N, align);
+    }
+
+    /**
+     * @return the owned buffer
+     */
+    public DoubleBuffer get() {
+        if (closed)
+            throw new IllegalStateException("buffer is closed");
+        return buffer;
+    }
+
+    /**
+     * @return true if the memory of this buffer has been freed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Frees the memory of this buffer. Closing more than once has no effect.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        cleanable.clean();
+    }
+}
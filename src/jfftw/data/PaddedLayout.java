@@ -0,0 +1,145 @@
+package jfftw.data;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Layout of the real side of an in-place real to complex or complex to real transform.
+ * <p>
+ * FFTW stores the real data of an in-place transform in row-major order with each row of the
+ * last dimension padded from n to 2 * (n / 2 + 1) doubles, so that the row can be overwritten by
+ * its n / 2 + 1 complex outputs. The padding doubles are not part of the transform. Rows are
+ * exposed as buffer views of the array or buffer holding them, so they are read and written
+ * without copying.
+ */
+public class PaddedLayout {
+
+    protected final int n, padded;
+    protected final long rows;
+
+    /**
+     * @param dims transform dimensions
+     */
+    public PaddedLayout(Dimensions dims) {
+        if (dims == null || dims.size() == 0)
+            throw new IllegalArgumentException("padded layouts require dimensions");
+        n = dims.dimensions[dims.size() - 1];
+        padded = 2 * (n / 2 + 1);
+        rows = dims.product() / n;
+    }
+
+    /**
+     * @return number of doubles holding the padded real data, which equals the number of doubles
+     * holding the complex half spectrum
+     */
+    public int size() {
+        return Math.toIntExact(Math.multiplyExact(rows, padded));
+    }
+
+    /**
+     * @return number of rows of the last dimension
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * @return number of real values in each row
+     */
+    public int rowLength() {
+        return n;
+    }
+
+    /**
+     * @return number of doubles between the starts of successive rows
+     */
+    public int rowStride() {
+        return padded;
+    }
+
+    /**
+     * Maps the row-major index of a real value to its position in the padded data.
+     *
+     * @param i index into the unpadded real data
+     * @return index into the padded data
+     */
+    public int index(long i) {
+        return Math.toIntExact(i / n * padded + i % n);
+    }
+
+    /**
+     * @param buff buffer holding padded real data from position 0
+     * @param row  row index
+     * @return view of the row's n real values
+     */
+    public DoubleBuffer row(DoubleBuffer buff, long row) {
+        return buff.slice(offset(row), n);
+    }
+
+    /**
+     * @param array array holding padded real data from index 0
+     * @param row   row index
+     * @return view of the row's n real values
+     */
+    public DoubleBuffer row(double[] array, long row) {
+        return DoubleBuffer.wrap(array, offset(row), n).slice();
+    }
+
+    /**
+     * Copies unpadded real data into padded data, e.g. to fill the input of an in-place r2c transform.
+     *
+     * @param dense  unpadded real data
+     * @param padded padded data
+     */
+    public void pad(double[] dense, DoubleBuffer padded) {
+        ensureDense(dense);
+        for (long r = 0; r < rows; r++)
+            padded.put(offset(r), dense, (int) (r * n), n);
+    }
+
+    /**
+     * Copies unpadded real data into padded data, e.g. to fill the input of an in-place r2c transform.
+     *
+     * @param dense  unpadded real data
+     * @param padded padded data
+     */
+    public void pad(double[] dense, double[] padded) {
+        ensureDense(dense);
+        for (long r = 0; r < rows; r++)
+            System.arraycopy(dense, (int) (r * n), padded, offset(r), n);
+    }
+
+    /**
+     * Copies padded real data into unpadded data, e.g. to read the output of an in-place c2r transform.
+     *
+     * @param padded padded data
+     * @param dense  unpadded real data
+     */
+    public void unpad(DoubleBuffer padded, double[] dense) {
+        ensureDense(dense);
+        for (long r = 0; r < rows; r++)
+            padded.get(offset(r), dense, (int) (r * n), n);
+    }
+
+    /**
+     * Copies padded real data into unpadded data, e.g. to read the output of an in-place c2r transform.
+     *
+     * @param padded padded data
+     * @param dense  unpadded real data
+     */
+    public void unpad(double[] padded, double[] dense) {
+        ensureDense(dense);
+        for (long r = 0; r < rows; r++)
+            System.arraycopy(padded, offset(r), dense, (int) (r * n), n);
+    }
+
+    private int offset(long row) {
+        if (row < 0 || row >= rows)
+            throw new IndexOutOfBoundsException("row " + row + " out of " + rows);
+        return (int) (row * padded);
+    }
+
+    private void ensureDense(double[] dense) {
+        if (dense.length != rows * n)
+            throw new IllegalArgumentException("unpadded data must hold " + rows * n + " doubles");
+    }
+}
@@ -0,0 +1,102 @@
+package jfftw.data;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+/**
+ * Hands out aligned direct DoubleBuffers from one FFTW allocation.
+ * <p>
+ * Allocating from a slab only moves an offset, so scratch space for a request costs no native
+ * call, and {@link #reset()} releases every buffer at once. Each buffer starts a multiple of
+ * 64 bytes into the slab, so all buffers share the slab's alignment and plans created on one
+ * buffer may execute on any other of the same size. A slab is not thread-safe; give each
+ * thread its own.
+ */
+public final class SlabAllocator implements AutoCloseable {
+
+    /**
+     * Granularity of buffer offsets within the slab in bytes.
+     */
+    public static final int ALIGNMENT = 64;
+
+    private final ByteBuffer slab;
+    private final Cleaner.Cleanable cleanable;
+    private int offset;
+    private boolean closed;
+
+    /**
+     * Allocates a slab
+     *
+     * @param bytes capacity of the slab in bytes
+     */
+    public SlabAllocator(int bytes) {
+        if (bytes < 1)
+            throw new IllegalArgumentException("capacity must be positive");
+        ByteBuffer root = DirectAllocator.jfftw_malloc(bytes);
+        cleanable = DirectAllocator.register(root);
+        slab = root;
+    }
+
+    /**
+     * @param N number of complex elements
+     * @return buffer of 2 * N doubles
+     */
+    public DoubleBuffer allocateComplex(int N) {
+        return allocate(Math.multiplyExact(2, N));
+    }
+
+    /**
+     * @param N number of real elements
+     * @return buffer of N doubles
+     */
+    public DoubleBuffer allocateReal(int N) {
+        return allocate(N);
+    }
+
+    private DoubleBuffer allocate(int doubles) {
+        if (closed)
+            throw new IllegalStateException("slab is closed");
+        if (doubles < 1)
+            throw new IllegalArgumentException("size must be positive");
+        long bytes = (long) doubles * Double.BYTES;
+        if (bytes > remaining())
+            throw new OutOfMemoryError("slab exhausted: requested " + bytes + " bytes, " + remaining() + " remaining");
+        ByteBuffer b = slab.duplicate().order(slab.order());
+        b.position(offset);
+        b.limit(offset + (int) bytes);
+        DoubleBuffer d = b.slice().order(slab.order()).asDoubleBuffer();
+        offset = (int) Math.min(slab.capacity(), (offset + bytes + ALIGNMENT - 1) & -ALIGNMENT);
+        return d;
+    }
+
+    /**
+     * @return bytes available for further buffers
+     */
+    public int remaining() {
+        return slab.capacity() - offset;
+    }
+
+    /**
+     * @return capacity of this slab in bytes
+     */
+    public int capacity() {
+        return slab.capacity();
+    }
+
+    /**
+     * Makes the whole slab available again. Buffers handed out before must no longer be used.
+     */
+    public void reset() {
+        offset = 0;
+    }
+
+    /**
+     * Frees the slab. Buffers handed out by it must no longer be used. Closing more than once has no effect.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        cleanable.clean();
+    }
+}
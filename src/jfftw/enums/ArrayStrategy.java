@@ -0,0 +1,21 @@
+package jfftw.enums;
+
+/**
+ * Enumeration representing how a plan executes on Java heap arrays.
+ */
+public enum ArrayStrategy {
+    /**
+     * The arrays are pinned as critical regions for the whole transform, which is cheapest for
+     * small arrays but may delay garbage collection while the transform runs.
+     */
+    CRITICAL,
+    /**
+     * The arrays are copied to and from aligned native scratch buffers, so the transform runs
+     * outside any critical region and never holds up the garbage collector.
+     */
+    COPY,
+    /**
+     * Arrays up to the plan's copy threshold are pinned and larger arrays are copied.
+     */
+    AUTO
+}
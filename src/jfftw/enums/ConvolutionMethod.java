@@ -0,0 +1,17 @@
+package jfftw.enums;
+
+/**
+ * Enumeration representing the block stitching method of a streaming convolution.
+ */
+public enum ConvolutionMethod {
+    /**
+     * Each block transforms the last filter length - 1 input samples together with the new ones,
+     * and discards the outputs corrupted by circular wrap-around.
+     */
+    OVERLAP_SAVE,
+    /**
+     * Each block transforms only new input samples, zero padded, and adds the tail of the
+     * previous block's output to its head.
+     */
+    OVERLAP_ADD
+}
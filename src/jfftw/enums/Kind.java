@@ -0,0 +1,39 @@
+package jfftw.enums;
+
+/**
+ * Enumeration representing the kind of a real to real transform along one dimension.
+ */
+public enum Kind {
+
+    R2HC(0),
+    HC2R(1),
+    DHT(2),
+    REDFT00(3),
+    REDFT01(4),
+    REDFT10(5),
+    REDFT11(6),
+    RODFT00(7),
+    RODFT01(8),
+    RODFT10(9),
+    RODFT11(10);
+
+    public final int value;
+
+    Kind(int v) {
+        value = v;
+    }
+
+    /**
+     * Converts 0 or more kinds to their FFTW values.
+     *
+     * @param kinds 0 or more kinds
+     * @return FFTW values of kinds
+     */
+    public static int[] toFftwKinds(Kind... kinds) {
+        int[] v = new int[kinds.length];
+        for (int i = 0; i < kinds.length; i++)
+            v[i] = kinds[i].value;
+        return v;
+    }
+
+}
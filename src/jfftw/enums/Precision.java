@@ -0,0 +1,8 @@
+package jfftw.enums;
+
+/**
+ * Enumeration representing the floating point precision of a plan.
+ */
+public enum Precision {
+    DOUBLE, FLOAT
+}
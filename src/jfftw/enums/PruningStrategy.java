@@ -0,0 +1,21 @@
+package jfftw.enums;
+
+/**
+ * Enumeration representing how a pruned transform computes its output bins.
+ */
+public enum PruningStrategy {
+    /**
+     * One transform of the full length over the zero-padded input, from which the requested bins are read.
+     */
+    FULL,
+    /**
+     * The full length N is split as N = P * L with L at least the input length, and each residue
+     * of the requested bins modulo P is computed by one length L transform of the twiddled input.
+     * The transforms never see the padding, and residues without requested bins are skipped.
+     */
+    DECOMPOSED,
+    /**
+     * Each requested bin is a direct sum over the nonzero input.
+     */
+    DIRECT
+}
@@ -0,0 +1,352 @@
+package jfftw.panama;
+
+import jfftw.data.IODim;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Downcall handles for the double precision FFTW API.
+ * <p>
+ * Symbols are looked up in the libraries loaded by this class loader, so FFTW must be loaded with
+ * {@link ForeignPlanner#loadLibrary(String)} before this class is used. Execute functions
+ * never call back into Java, so they are bound as critical calls: the transition is cheap and heap
+ * segments are passed without pinning. Planners are called from Plan constructors, which hold
+ * {@link jfftw.Interface#PLANNER}; plans are destroyed under the same lock by {@link jfftw.Destroyer}.
+ */
+final class FFTW {
+
+    private FFTW() {}
+
+    private static final Linker linker = Linker.nativeLinker();
+    private static final SymbolLookup lookup = SymbolLookup.loaderLookup().or(linker.defaultLookup());
+
+    private static final MethodHandle fftw_plan_guru64_dft = planner("fftw_plan_guru64_dft",
+            FunctionDescriptor.of(ADDRESS, JAVA_INT, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT, JAVA_INT));
+    private static final MethodHandle fftw_plan_guru64_dft_r2c = planner("fftw_plan_guru64_dft_r2c",
+            FunctionDescriptor.of(ADDRESS, JAVA_INT, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT));
+    private static final MethodHandle fftw_plan_guru64_dft_c2r = planner("fftw_plan_guru64_dft_c2r",
+            FunctionDescriptor.of(ADDRESS, JAVA_INT, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT));
+    private static final MethodHandle fftw_plan_guru64_r2r = planner("fftw_plan_guru64_r2r",
+            FunctionDescriptor.of(ADDRESS, JAVA_INT, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS, JAVA_INT));
+
+    private static final MethodHandle fftw_execute = critical("fftw_execute", FunctionDescriptor.ofVoid(ADDRESS));
+    private static final MethodHandle fftw_execute_dft = critical("fftw_execute_dft", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS));
+    private static final MethodHandle fftw_execute_dft_r2c = critical("fftw_execute_dft_r2c", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS));
+    private static final MethodHandle fftw_execute_dft_c2r = critical("fftw_execute_dft_c2r", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS));
+    private static final MethodHandle fftw_execute_r2r = critical("fftw_execute_r2r", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS));
+
+    private static final MethodHandle fftw_destroy_plan = planner("fftw_destroy_plan", FunctionDescriptor.ofVoid(ADDRESS));
+    private static final MethodHandle fftw_cost = planner("fftw_cost", FunctionDescriptor.of(JAVA_DOUBLE, ADDRESS));
+    private static final MethodHandle fftw_estimate_cost = planner("fftw_estimate_cost", FunctionDescriptor.of(JAVA_DOUBLE, ADDRESS));
+    private static final MethodHandle fftw_flops = planner("fftw_flops", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+    private static final MethodHandle fftw_print_plan = planner("fftw_print_plan", FunctionDescriptor.ofVoid(ADDRESS));
+    private static final MethodHandle fftw_sprint_plan = planner("fftw_sprint_plan", FunctionDescriptor.of(ADDRESS, ADDRESS));
+    private static final MethodHandle fftw_alignment_of = planner("fftw_alignment_of", FunctionDescriptor.of(JAVA_INT, ADDRESS));
+    private static final MethodHandle free = planner("free", FunctionDescriptor.ofVoid(ADDRESS));
+
+    private static final MethodHandle fftw_set_timelimit = planner("fftw_set_timelimit", FunctionDescriptor.ofVoid(JAVA_DOUBLE));
+    private static final MethodHandle fftw_forget_wisdom = planner("fftw_forget_wisdom", FunctionDescriptor.ofVoid());
+    private static final MethodHandle fftw_cleanup = planner("fftw_cleanup", FunctionDescriptor.ofVoid());
+    private static final MethodHandle fftw_export_wisdom_to_string = planner("fftw_export_wisdom_to_string", FunctionDescriptor.of(ADDRESS));
+    private static final MethodHandle fftw_export_wisdom_to_filename = planner("fftw_export_wisdom_to_filename", FunctionDescriptor.of(JAVA_INT, ADDRESS));
+    private static final MethodHandle fftw_import_wisdom_from_string = planner("fftw_import_wisdom_from_string", FunctionDescriptor.of(JAVA_INT, ADDRESS));
+    private static final MethodHandle fftw_import_wisdom_from_filename = planner("fftw_import_wisdom_from_filename", FunctionDescriptor.of(JAVA_INT, ADDRESS));
+    private static final MethodHandle fftw_import_system_wisdom = planner("fftw_import_system_wisdom", FunctionDescriptor.of(JAVA_INT));
+
+    /**
+     * Thread functions live in a separate library in most FFTW builds, loaded after this class,
+     * so they are looked up on first use.
+     */
+    private static final class Threads {
+        static final MethodHandle fftw_init_threads = planner("fftw_init_threads", FunctionDescriptor.of(JAVA_INT));
+        static final MethodHandle fftw_plan_with_nthreads = planner("fftw_plan_with_nthreads", FunctionDescriptor.ofVoid(JAVA_INT));
+        static final MethodHandle fftw_cleanup_threads = planner("fftw_cleanup_threads", FunctionDescriptor.ofVoid());
+    }
+
+    private static MethodHandle planner(String name, FunctionDescriptor d) {
+        return linker.downcallHandle(find(name), d);
+    }
+
+    private static MethodHandle critical(String name, FunctionDescriptor d) {
+        return linker.downcallHandle(find(name), d, Linker.Option.critical(true));
+    }
+
+    private static MemorySegment find(String name) {
+        return lookup.find(name).orElseThrow(() -> new UnsatisfiedLinkError("symbol not found: " + name));
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException)
+            return (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        return new IllegalStateException(t);
+    }
+
+    static long planGuru64Dft(IODim[] dims, IODim[] howmany, MemorySegment in, MemorySegment out, int sign, int flags) {
+        try (Arena arena = Arena.ofConfined()) {
+            return ((MemorySegment) fftw_plan_guru64_dft.invokeExact(dims.length, iodims(arena, dims), howmany.length, iodims(arena, howmany), in, out, sign, flags)).address();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static long planGuru64DftR2c(IODim[] dims, IODim[] howmany, MemorySegment in, MemorySegment out, int flags) {
+        try (Arena arena = Arena.ofConfined()) {
+            return ((MemorySegment) fftw_plan_guru64_dft_r2c.invokeExact(dims.length, iodims(arena, dims), howmany.length, iodims(arena, howmany), in, out, flags)).address();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static long planGuru64DftC2r(IODim[] dims, IODim[] howmany, MemorySegment in, MemorySegment out, int flags) {
+        try (Arena arena = Arena.ofConfined()) {
+            return ((MemorySegment) fftw_plan_guru64_dft_c2r.invokeExact(dims.length, iodims(arena, dims), howmany.length, iodims(arena, howmany), in, out, flags)).address();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static long planGuru64R2r(IODim[] dims, IODim[] howmany, MemorySegment in, MemorySegment out, int[] kinds, int flags) {
+        try (Arena arena = Arena.ofConfined()) {
+            return ((MemorySegment) fftw_plan_guru64_r2r.invokeExact(dims.length, iodims(arena, dims), howmany.length, iodims(arena, howmany), in, out, arena.allocateFrom(JAVA_INT, kinds), flags)).address();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Lays out dimensions as an array of fftw_iodim64, three ptrdiff_t each.
+     */
+    private static MemorySegment iodims(Arena arena, IODim[] dims) {
+        if (dims.length == 0)
+            return MemorySegment.NULL;
+        MemorySegment s = arena.allocate(JAVA_LONG, 3L * dims.length);
+        for (int i = 0; i < dims.length; i++) {
+            s.setAtIndex(JAVA_LONG, 3L * i, dims[i].getN());
+            s.setAtIndex(JAVA_LONG, 3L * i + 1, dims[i].getInputStride());
+            s.setAtIndex(JAVA_LONG, 3L * i + 2, dims[i].getOutputStride());
+        }
+        return s;
+    }
+
+    static void execute(long p) {
+        try {
+            fftw_execute.invokeExact(MemorySegment.ofAddress(p));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void executeDft(long p, MemorySegment in, MemorySegment out) {
+        try {
+            fftw_execute_dft.invokeExact(MemorySegment.ofAddress(p), in, out);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void executeDftR2c(long p, MemorySegment in, MemorySegment out) {
+        try {
+            fftw_execute_dft_r2c.invokeExact(MemorySegment.ofAddress(p), in, out);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void executeDftC2r(long p, MemorySegment in, MemorySegment out) {
+        try {
+            fftw_execute_dft_c2r.invokeExact(MemorySegment.ofAddress(p), in, out);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void executeR2r(long p, MemorySegment in, MemorySegment out) {
+        try {
+            fftw_execute_r2r.invokeExact(MemorySegment.ofAddress(p), in, out);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void destroyPlan(long p) {
+        try {
+            fftw_destroy_plan.invokeExact(MemorySegment.ofAddress(p));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static double cost(long p) {
+        try {
+            return (double) fftw_cost.invokeExact(MemorySegment.ofAddress(p));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static double estimateCost(long p) {
+        try {
+            return (double) fftw_estimate_cost.invokeExact(MemorySegment.ofAddress(p));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return additions plus multiplications plus twice the fused multiply-adds of one execution
+     */
+    static double flops(long p) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment ops = arena.allocate(JAVA_DOUBLE, 3);
+            fftw_flops.invokeExact(MemorySegment.ofAddress(p), ops, ops.asSlice(Double.BYTES), ops.asSlice(2L * Double.BYTES));
+            return ops.getAtIndex(JAVA_DOUBLE, 0) + ops.getAtIndex(JAVA_DOUBLE, 1) + 2 * ops.getAtIndex(JAVA_DOUBLE, 2);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void printPlan(long p) {
+        try {
+            fftw_print_plan.invokeExact(MemorySegment.ofAddress(p));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String sprintPlan(long p) {
+        try {
+            MemorySegment s = (MemorySegment) fftw_sprint_plan.invokeExact(MemorySegment.ofAddress(p));
+            try {
+                return s.reinterpret(Long.MAX_VALUE).getString(0);
+            } finally {
+                free.invokeExact(s);
+            }
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int alignmentOf(MemorySegment s) {
+        try {
+            return (int) fftw_alignment_of.invokeExact(s);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    // planner settings and wisdom, called under Interface.PLANNER by ForeignPlanner
+
+    static void setTimelimit(double seconds) {
+        try {
+            fftw_set_timelimit.invokeExact(seconds);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void forgetWisdom() {
+        try {
+            fftw_forget_wisdom.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void cleanup() {
+        try {
+            fftw_cleanup.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String exportWisdomToString() {
+        try {
+            MemorySegment s = (MemorySegment) fftw_export_wisdom_to_string.invokeExact();
+            if (s.equals(MemorySegment.NULL))
+                return null;
+            try {
+                return s.reinterpret(Long.MAX_VALUE).getString(0);
+            } finally {
+                free.invokeExact(s);
+            }
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean exportWisdomToFilename(String file) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (int) fftw_export_wisdom_to_filename.invokeExact(arena.allocateFrom(file)) != 0;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean importWisdomFromString(String wisdom) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (int) fftw_import_wisdom_from_string.invokeExact(arena.allocateFrom(wisdom)) != 0;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean importWisdomFromFilename(String file) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (int) fftw_import_wisdom_from_filename.invokeExact(arena.allocateFrom(file)) != 0;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean importSystemWisdom() {
+        try {
+            return (int) fftw_import_system_wisdom.invokeExact() != 0;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean initThreads() {
+        try {
+            return (int) Threads.fftw_init_threads.invokeExact() != 0;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void planWithNThreads(int nthreads) {
+        try {
+            Threads.fftw_plan_with_nthreads.invokeExact(nthreads);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void cleanupThreads() {
+        try {
+            Threads.fftw_cleanup_threads.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return contents of the fftw_version string
+     */
+    static String version() {
+        return find("fftw_version").reinterpret(Long.MAX_VALUE).getString(0);
+    }
+}
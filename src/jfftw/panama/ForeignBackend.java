@@ -0,0 +1,41 @@
+package jfftw.panama;
+
+import jfftw.Backend;
+
+/**
+ * Plan operations bound to FFTW with the foreign function and memory API.
+ */
+public final class ForeignBackend implements Backend {
+
+    public static final ForeignBackend INSTANCE = new ForeignBackend();
+
+    private ForeignBackend() {}
+
+    public void execute(long plan) {
+        FFTW.execute(plan);
+    }
+
+    public void destroy(long plan) {
+        FFTW.destroyPlan(plan);
+    }
+
+    public double cost(long plan) {
+        return FFTW.cost(plan);
+    }
+
+    public double estimateCost(long plan) {
+        return FFTW.estimateCost(plan);
+    }
+
+    public double flops(long plan) {
+        return FFTW.flops(plan);
+    }
+
+    public void print(long plan) {
+        FFTW.printPlan(plan);
+    }
+
+    public String sprint(long plan) {
+        return FFTW.sprintPlan(plan);
+    }
+}
@@ -0,0 +1,162 @@
+package jfftw.panama;
+
+import jfftw.Destroyer;
+import jfftw.Interface;
+
+/**
+ * Library loading, planner settings and wisdom for the foreign function backend.
+ * <p>
+ * These are the counterparts of {@link jfftw.Interface} and <code>jfftw.planning.Wisdom</code>,
+ * which call the JNI library, so that segment plans may be used without it. Every call into FFTW
+ * holds {@link jfftw.Interface#PLANNER}, like the planners of {@link SegmentPlan}, so wisdom and
+ * settings apply to the segment plans created afterwards.
+ */
+public final class ForeignPlanner {
+
+    private static boolean threadsLoaded = false;
+    private static volatile double timelimit = -1;
+
+    private ForeignPlanner() {}
+
+    /**
+     * Loads the FFTW library, which must be in the JVM's java.library.path directory, so that its
+     * symbols can be bound. Call this before any other class of this package is used, unless
+     * FFTW was already loaded by {@link jfftw.Interface#loadLibraries(String, String)}.
+     *
+     * @param fftw name of the FFTW library
+     */
+    public static void loadLibrary(String fftw) {
+        System.loadLibrary(fftw);
+    }
+
+    /**
+     * Cleans up FFTW internal state as if the program just began.
+     */
+    public static void cleanup() {
+        synchronized (Interface.PLANNER) {
+            Destroyer.drain();
+            FFTW.cleanup();
+        }
+    }
+
+    /**
+     * Performs the one-time initialization of FFTW's threads.
+     *
+     * @param lib name of the FFTW threads library, or null if threads are built into FFTW
+     * @return true if threads loaded successfully, false otherwise
+     */
+    public static boolean initThreads(String lib) {
+        synchronized (Interface.PLANNER) {
+            if (!threadsLoaded) {
+                if (lib != null)
+                    System.loadLibrary(lib);
+                threadsLoaded = FFTW.initThreads();
+            }
+            return threadsLoaded;
+        }
+    }
+
+    /**
+     * Frees the resources of FFTW's threads. Previously created plans must not be executed afterwards.
+     */
+    public static void cleanupThreads() {
+        synchronized (Interface.PLANNER) {
+            Destroyer.drain();
+            FFTW.cleanupThreads();
+        }
+    }
+
+    /**
+     * Specifies a number of threads to use in planning.
+     *
+     * @param nthreads number of threads
+     */
+    public static void planWithNThreads(int nthreads) {
+        synchronized (Interface.PLANNER) {
+            FFTW.planWithNThreads(nthreads);
+        }
+    }
+
+    /**
+     * Sets a rough timelimit for planning.
+     *
+     * @param t time in seconds
+     */
+    public static void setTimelimit(double t) {
+        synchronized (Interface.PLANNER) {
+            FFTW.setTimelimit(t);
+            timelimit = t;
+        }
+    }
+
+    /**
+     * @return planning time limit in seconds last set, or -1 if planning is unlimited
+     */
+    public static double getTimelimit() {
+        return timelimit;
+    }
+
+    /**
+     * @return version string of the loaded FFTW library
+     */
+    public static String version() {
+        return FFTW.version();
+    }
+
+    /**
+     * Clears all currently stored wisdom.
+     */
+    public static void forgetWisdom() {
+        synchronized (Interface.PLANNER) {
+            FFTW.forgetWisdom();
+        }
+    }
+
+    /**
+     * @return currently stored wisdom
+     */
+    public static String exportWisdom() {
+        synchronized (Interface.PLANNER) {
+            return FFTW.exportWisdomToString();
+        }
+    }
+
+    /**
+     * @param file name of the file to store wisdom
+     * @return true if wisdom export is successful, false otherwise
+     */
+    public static boolean exportWisdomToFilename(String file) {
+        synchronized (Interface.PLANNER) {
+            return FFTW.exportWisdomToFilename(file);
+        }
+    }
+
+    /**
+     * @param wisdom wisdom string
+     * @return true if wisdom import is successful, false otherwise
+     */
+    public static boolean importWisdom(String wisdom) {
+        synchronized (Interface.PLANNER) {
+            return FFTW.importWisdomFromString(wisdom);
+        }
+    }
+
+    /**
+     * @param file name of a file to import wisdom from
+     * @return true if wisdom import is successful, false otherwise
+     */
+    public static boolean importWisdomFromFilename(String file) {
+        synchronized (Interface.PLANNER) {
+            return FFTW.importWisdomFromFilename(file);
+        }
+    }
+
+    /**
+     * @return true if the system wisdom was imported, false otherwise
+     */
+    public static boolean importSystemWisdom() {
+        synchronized (Interface.PLANNER) {
+            return FFTW.importSystemWisdom();
+        }
+    }
+}
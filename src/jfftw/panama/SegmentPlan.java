@@ -0,0 +1,225 @@
+package jfftw.panama;
+
+import jfftw.Backend;
+import jfftw.data.Dimensions;
+import jfftw.data.GuruDimensions;
+import jfftw.data.IODim;
+import jfftw.enums.Complexity;
+import jfftw.enums.Kind;
+import jfftw.enums.Precision;
+import jfftw.exceptions.UnsupportedComplexityException;
+import jfftw.planning.Placement;
+import jfftw.planning.Plan;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * A plan on memory segments, bound to FFTW without the JNI library.
+ * <p>
+ * Plans are created with FFTW's 64-bit guru interface, so a transform may span more than
+ * 2^31-1 elements, e.g. a multidimensional transform of a memory-mapped file; each dimension
+ * is still limited to 2^31-1 points. Plans given Dimensions address contiguous row-major data,
+ * with the real side of in-place real transforms padded to 2 * (n / 2 + 1) in the last dimension.
+ * <p>
+ * Plans must be created on native segments. New array execution also accepts heap segments,
+ * e.g. <code>MemorySegment.ofArray(double[])</code>, which are passed to FFTW without copying
+ * or pinning; since heap arrays may move, such plans must be created with Flag.UNALIGNED.
+ */
+public final class SegmentPlan extends Plan<MemorySegment> {
+
+    /**
+     * Constructs a new plan on contiguous native memory segments.
+     *
+     * @param in    native segment with complex or real data for input
+     * @param out   native segment with complex or real data for output
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  nullable dimensions
+     */
+    public SegmentPlan(MemorySegment in, MemorySegment out, int sign, Complexity cplx, int flags, Dimensions dims) {
+        this(in, out, sign, cplx, flags, null, layout(in, out, cplx, dims));
+    }
+
+    /**
+     * Constructs a new real to real plan on contiguous native memory segments.
+     *
+     * @param in    native segment with real data for input
+     * @param out   native segment with real data for output
+     * @param kinds transform kind of each dimension
+     * @param flags FFTW flags
+     * @param dims  nullable dimensions
+     */
+    public SegmentPlan(MemorySegment in, MemorySegment out, Kind[] kinds, int flags, Dimensions dims) {
+        this(in, out, 0, Complexity.REAL_TO_REAL, flags, kinds, layout(in, out, Complexity.REAL_TO_REAL, dims));
+    }
+
+    /**
+     * Constructs a new guru plan on native memory segments of interleaved complex or real data.
+     *
+     * @param in    native segment with complex or real data for input
+     * @param out   native segment with complex or real data for output
+     * @param dims  guru dimensions
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     */
+    public SegmentPlan(MemorySegment in, MemorySegment out, GuruDimensions dims, int sign, Complexity cplx, int flags) {
+        this(in, out, sign, cplx, flags, null, dims);
+    }
+
+    /**
+     * Constructs a new real to real guru plan on native memory segments.
+     *
+     * @param in    native segment with real data for input
+     * @param out   native segment with real data for output
+     * @param dims  guru dimensions
+     * @param kinds transform kind of each dimension
+     * @param flags FFTW flags
+     */
+    public SegmentPlan(MemorySegment in, MemorySegment out, GuruDimensions dims, Kind[] kinds, int flags) {
+        this(in, out, 0, Complexity.REAL_TO_REAL, flags, kinds, dims);
+    }
+
+    private SegmentPlan(MemorySegment in, MemorySegment out, int sign, Complexity cplx, int flags, Kind[] kinds, GuruDimensions dims) {
+        super(
+                ensureSegments(in, out, dims, cplx),
+                out,
+                0,
+                0,
+                sign,
+                cplx,
+                flags,
+                null,
+                placementOf(in, out),
+                Segments.alignmentOf(in),
+                Segments.alignmentOf(out),
+                null,
+                Precision.DOUBLE,
+                kinds,
+                dims
+        );
+    }
+
+    /**
+     * Executes a plan using new memory segments
+     *
+     * @param in    new native or heap segment for input
+     * @param out   new native or heap segment for output
+     */
+    public void execute(MemorySegment in, MemorySegment out) {
+        ensureNotDestroyed();
+        ensureSegments(in, out, guru, complexity);
+        ensurePlacement(placementOf(in, out));
+        if (requiresAligned) {
+            if (!in.isNative() || !out.isNative())
+                throw new IllegalArgumentException("heap segments require a plan created with Flag.UNALIGNED");
+            ensureAlignment(Segments.alignmentOf(in), Segments.alignmentOf(out));
+        }
+        long start = acquireExecution();
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: FFTW.executeDft(address, in, out); break;
+                case COMPLEX_TO_REAL: FFTW.executeDftC2r(address, in, out); break;
+                case REAL_TO_COMPLEX: FFTW.executeDftR2c(address, in, out); break;
+                case REAL_TO_REAL: FFTW.executeR2r(address, in, out); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    protected long create() {
+        if (!input.isNative() || !output.isNative())
+            throw new IllegalArgumentException("plans must be created on native segments");
+        IODim[] dims = guru.getDims(), howmany = guru.getHowMany();
+        switch (complexity) {
+            case COMPLEX_TO_COMPLEX: return FFTW.planGuru64Dft(dims, howmany, input, output, sign, flags);
+            case COMPLEX_TO_REAL: return FFTW.planGuru64DftC2r(dims, howmany, input, output, flags);
+            case REAL_TO_COMPLEX: return FFTW.planGuru64DftR2c(dims, howmany, input, output, flags);
+            case REAL_TO_REAL: return FFTW.planGuru64R2r(dims, howmany, input, output, Kind.toFftwKinds(kinds), flags);
+            default: throw new UnsupportedComplexityException(complexity);
+        }
+    }
+
+    protected Backend backend() {
+        return ForeignBackend.INSTANCE;
+    }
+
+    /**
+     * @return copy of this plan's guru dimensions
+     */
+    public GuruDimensions getGuruDimensions() {
+        return new GuruDimensions(guru);
+    }
+
+    /**
+     * Lays out dimensions as contiguous row-major guru dimensions. Without dimensions the whole
+     * input segment is one transform.
+     */
+    private static GuruDimensions layout(MemorySegment in, MemorySegment out, Complexity cplx, Dimensions dims) {
+        if (cplx == null)
+            throw new UnsupportedComplexityException();
+        int[] n;
+        if (dims == null || dims.size() == 0) {
+            long N = in.byteSize() / Double.BYTES / (isComplex(cplx, true) ? 2 : 1);
+            if (N > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("one dimensional transforms are limited to 2^31-1 points");
+            n = new int[] {(int) N};
+        } else {
+            n = dims.get();
+        }
+        boolean inPlace = placementOf(in, out) == Placement.IN_PLACE;
+        IODim[] d = new IODim[n.length];
+        long is = 1, os = 1;
+        for (int i = n.length - 1; i >= 0; i--) {
+            d[i] = new IODim(n[i], is, os);
+            boolean last = i == n.length - 1;
+            is = Math.multiplyExact(is, last ? rowLength(n[i], cplx, true, inPlace) : n[i]);
+            os = Math.multiplyExact(os, last ? rowLength(n[i], cplx, false, inPlace) : n[i]);
+        }
+        return new GuruDimensions(d, null);
+    }
+
+    /**
+     * Number of elements in a row of the last dimension on one side of a transform.
+     */
+    private static long rowLength(int n, Complexity cplx, boolean input, boolean inPlace) {
+        if (cplx == Complexity.COMPLEX_TO_COMPLEX || cplx == Complexity.REAL_TO_REAL)
+            return n;
+        if (isComplex(cplx, input))
+            return n / 2 + 1;
+        return inPlace ? 2 * (n / 2 + 1) : n;
+    }
+
+    private static boolean isComplex(Complexity cplx, boolean input) {
+        return cplx == Complexity.COMPLEX_TO_COMPLEX
+                || cplx == (input ? Complexity.COMPLEX_TO_REAL : Complexity.REAL_TO_COMPLEX);
+    }
+
+    /**
+     * Checks that both segments hold every element addressed by the dimensions and that the output is writable.
+     *
+     * @return the input segment
+     */
+    private static MemorySegment ensureSegments(MemorySegment in, MemorySegment out, GuruDimensions dims, Complexity cplx) {
+        if (cplx == null)
+            throw new UnsupportedComplexityException();
+        long iExtent = dims.inputExtent(cplx == Complexity.COMPLEX_TO_REAL) * (isComplex(cplx, true) ? 2 : 1);
+        long oExtent = dims.outputExtent(cplx == Complexity.REAL_TO_COMPLEX) * (isComplex(cplx, false) ? 2 : 1);
+        if (in.byteSize() / Double.BYTES < iExtent)
+            throw new IllegalArgumentException("input segment too small for dimensions");
+        if (out.byteSize() / Double.BYTES < oExtent)
+            throw new IllegalArgumentException("output segment too small for dimensions");
+        if (out.isReadOnly())
+            throw new IllegalArgumentException("output segment is read-only");
+        return in;
+    }
+
+    private static Placement placementOf(MemorySegment in, MemorySegment out) {
+        boolean same = in.isNative() == out.isNative() && in.address() == out.address()
+                && in.heapBase().equals(out.heapBase());
+        return same ? Placement.IN_PLACE : Placement.OUT_OF_PLACE;
+    }
+}
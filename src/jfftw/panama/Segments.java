@@ -0,0 +1,91 @@
+package jfftw.panama;
+
+import jfftw.data.Alignment;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Allocates and maps transform segments in an arena.
+ * <p>
+ * Allocated segments are aligned to 64 bytes, which satisfies every SIMD alignment FFTW uses;
+ * mapped segments start on a page boundary. Both are freed or unmapped together when their
+ * arena is closed.
+ */
+public final class Segments {
+
+    /**
+     * Alignment of every allocated segment in bytes.
+     */
+    public static final long ALIGNMENT = 64;
+
+    private Segments() {}
+
+    /**
+     * @param arena arena which owns the segment
+     * @param N     number of complex elements
+     * @return segment of 2 * N doubles
+     */
+    public static MemorySegment allocateComplex(Arena arena, long N) {
+        return arena.allocate(Math.multiplyExact(N, 2L * Double.BYTES), ALIGNMENT);
+    }
+
+    /**
+     * @param arena arena which owns the segment
+     * @param N     number of real elements
+     * @return segment of N doubles
+     */
+    public static MemorySegment allocateReal(Arena arena, long N) {
+        return arena.allocate(Math.multiplyExact(N, (long) Double.BYTES), ALIGNMENT);
+    }
+
+    /**
+     * Maps a whole file of native-endian doubles into memory.
+     *
+     * @param file  file to map
+     * @param mode  READ_ONLY for input, READ_WRITE to transform the file in place or write to it
+     * @param arena arena which unmaps the segment when closed
+     * @return segment over the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MemorySegment map(Path file, FileChannel.MapMode mode, Arena arena) throws IOException {
+        return map(file, mode, 0, -1, arena);
+    }
+
+    /**
+     * Maps a region of a file of native-endian doubles into memory. Changes to a READ_WRITE
+     * mapping reach the file when the segment is forced or unmapped.
+     *
+     * @param file   file to map
+     * @param mode   READ_ONLY for input, READ_WRITE to transform the file in place or write to it
+     * @param offset byte offset of the region, a multiple of 16 to keep the segment SIMD aligned
+     * @param size   byte size of the region, or -1 for the rest of the file
+     * @param arena  arena which unmaps the segment when closed
+     * @return segment over the region
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MemorySegment map(Path file, FileChannel.MapMode mode, long offset, long size, Arena arena) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_WRITE
+                ? new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[] {StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            return channel.map(mode, offset, size < 0 ? channel.size() - offset : size, arena);
+        }
+    }
+
+    /**
+     * Determine the FFTW alignment of a native segment
+     *
+     * @param s native segment to check alignment of
+     * @return alignment of s
+     */
+    public static Alignment alignmentOf(MemorySegment s) {
+        if (!s.isNative())
+            throw new IllegalArgumentException("heap segments have no fixed alignment");
+        return new Alignment(FFTW.alignmentOf(s));
+    }
+}
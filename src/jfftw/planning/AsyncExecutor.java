@@ -0,0 +1,67 @@
+package jfftw.planning;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs asynchronous executions on a bounded pool of daemon platform threads.
+ * <p>
+ * A native transform pins a virtual thread to its carrier for its whole duration, so long
+ * transforms are moved to these threads instead. Submitters block while the number of pending
+ * executions is at its limit, which parks a virtual thread without pinning. The pool size is read
+ * from the jfftw.async.threads property and defaults to the number of processors; the limit is
+ * read from jfftw.async.queue and defaults to four executions per thread.
+ */
+final class AsyncExecutor {
+
+    static final String THREADS_PROPERTY = "jfftw.async.threads", QUEUE_PROPERTY = "jfftw.async.queue";
+
+    private static final int threads = Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+    private static final Semaphore pending = new Semaphore(Integer.getInteger(QUEUE_PROPERTY, 4 * threads));
+    private static final ThreadPoolExecutor pool;
+
+    static {
+        AtomicInteger count = new AtomicInteger();
+        pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "jfftw-async-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private AsyncExecutor() {}
+
+    /**
+     * Waits for a free slot, then queues a task.
+     *
+     * @param task task to run on a pool thread
+     * @return future completed when the task returns, or exceptionally with what it threw
+     */
+    static CompletableFuture<Void> submit(Runnable task) {
+        try {
+            pending.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            return CompletableFuture.runAsync(task, pool).whenComplete((v, t) -> pending.release());
+        } catch (RuntimeException e) {
+            pending.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Queues a task without waiting for a slot, for callers which bound their own submissions.
+     *
+     * @param task task to run on a pool thread
+     */
+    static void execute(Runnable task) {
+        pool.execute(task);
+    }
+}
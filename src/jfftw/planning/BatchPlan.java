@@ -0,0 +1,33 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.Batch;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+
+/**
+ * A plan which computes a block of equally sized transforms in a single native call.
+ *
+ * @param <T> array type
+ */
+public abstract class BatchPlan<T> extends Plan<T> {
+
+    protected BatchPlan(T i, T o, int is, int os, int s, Complexity c, int f, Dimensions d, Placement p, Alignment ia, Alignment oa, Batch b) {
+        super(i, o, is, os, s, c, f, d, p, ia, oa, b);
+    }
+
+    /**
+     * @return copy of this plan's batch layout with resolved distances
+     */
+    public final Batch getBatch() {
+        return new Batch(batch);
+    }
+
+    /**
+     * @return number of transforms computed per execution
+     */
+    public final int getHowMany() {
+        return batch.getHowMany();
+    }
+
+}
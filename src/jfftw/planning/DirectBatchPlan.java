@@ -0,0 +1,128 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.Batch;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+import jfftw.exceptions.NonDirectBufferException;
+import jfftw.exceptions.UnsupportedComplexityException;
+
+import java.nio.DoubleBuffer;
+
+public final class DirectBatchPlan extends BatchPlan<DoubleBuffer> {
+
+    private static native void jfftw_execute_dft(long p, DoubleBuffer ci, DoubleBuffer co);
+    private static native void jfftw_execute_dft_c2r(long p, DoubleBuffer ci, DoubleBuffer ro);
+    private static native void jfftw_execute_dft_r2c(long p, DoubleBuffer ri, DoubleBuffer co);
+    private static native long jfftw_plan_many_dft(int rank, int[] n, int howmany, DoubleBuffer ci, int istride, int idist, DoubleBuffer co, int ostride, int odist, int sign, int flags);
+    private static native long jfftw_plan_many_dft_c2r(int rank, int[] n, int howmany, DoubleBuffer ci, int istride, int idist, DoubleBuffer ro, int ostride, int odist, int flags);
+    private static native long jfftw_plan_many_dft_r2c(int rank, int[] n, int howmany, DoubleBuffer ri, int istride, int idist, DoubleBuffer co, int ostride, int odist, int flags);
+
+    /**
+     * Constructs a new batched plan using direct DoubleBuffers.
+     *
+     * @param in    direct DoubleBuffer holding every input transform
+     * @param out   direct DoubleBuffer holding every output transform
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  dimensions of one transform
+     * @param batch layout of the transforms within in and out
+     */
+    public DirectBatchPlan(DoubleBuffer in, DoubleBuffer out, int sign, Complexity cplx, int flags, Dimensions dims, Batch batch) {
+        super(
+                in,
+                out,
+                in.capacity(),
+                out.capacity(),
+                sign,
+                cplx,
+                flags,
+                dims,
+                in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE,
+                Alignment.of(in),
+                Alignment.of(out),
+                batch
+        );
+        ensureDirect(in, out);
+    }
+
+    /**
+     * Executes a plan using new DoubleBuffers
+     *
+     * @param in    new direct DoubleBuffer for input
+     * @param out   new direct DoubleBuffer for output
+     */
+    public void execute(DoubleBuffer in, DoubleBuffer out) {
+        ensureDirect(in, out);
+        ensureNotDestroyed();
+        ensureSizes(in.capacity(), out.capacity());
+        ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
+        if(requiresAligned)
+            ensureAlignment(Alignment.of(in), Alignment.of(out));
+        long start = acquireExecution();
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: jfftw_execute_dft(address, in, out); break;
+                case COMPLEX_TO_REAL: jfftw_execute_dft_c2r(address, in, out); break;
+                case REAL_TO_COMPLEX: jfftw_execute_dft_r2c(address, in, out); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    /**
+     * Validates new DoubleBuffers against this plan once and caches their native addresses.
+     *
+     * @param in    new direct DoubleBuffer for input
+     * @param out   new direct DoubleBuffer for output
+     * @return handle for allocation-free execution
+     */
+    public Registration register(DoubleBuffer in, DoubleBuffer out) {
+        ensureDirect(in, out);
+        ensureNotDestroyed();
+        ensureSizes(in.capacity(), out.capacity());
+        ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
+        if(requiresAligned)
+            ensureAlignment(Alignment.of(in), Alignment.of(out));
+        return new Registration(this, in, out);
+    }
+
+    /**
+     * Executes a plan using DoubleBuffers registered with this plan
+     *
+     * @param r registration returned by {@link #register(DoubleBuffer, DoubleBuffer)}
+     */
+    public void execute(Registration r) {
+        r.ensurePlan(this);
+        ensureNotDestroyed();
+        long start = acquireExecution();
+        try {
+            r.execute(complexity);
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    protected long create() {
+        int[] dims = dimensions.get();
+        int howmany = batch.getHowMany();
+        int is = batch.getInputStride(), id = batch.getInputDistance();
+        int os = batch.getOutputStride(), od = batch.getOutputDistance();
+        switch (complexity) {
+            case COMPLEX_TO_COMPLEX: return jfftw_plan_many_dft(rank, dims, howmany, input, is, id, output, os, od, sign, flags);
+            case COMPLEX_TO_REAL: return jfftw_plan_many_dft_c2r(rank, dims, howmany, input, is, id, output, os, od, flags);
+            case REAL_TO_COMPLEX: return jfftw_plan_many_dft_r2c(rank, dims, howmany, input, is, id, output, os, od, flags);
+            default: throw new UnsupportedComplexityException(complexity);
+        }
+    }
+
+    private void ensureDirect(DoubleBuffer in, DoubleBuffer out) {
+        if (!in.isDirect())
+            throw new NonDirectBufferException("input");
+        if (!out.isDirect())
+            throw new NonDirectBufferException("output");
+    }
+}
@@ -3,28 +3,36 @@ package jfftw.planning;
 import jfftw.data.Alignment;
 import jfftw.data.Dimensions;
 import jfftw.enums.Complexity;
+import jfftw.enums.Kind;
+import jfftw.enums.Precision;
 import jfftw.exceptions.NonDirectBufferException;
 import jfftw.exceptions.UnsupportedComplexityException;
 
 import java.nio.DoubleBuffer;
+import java.util.concurrent.CompletableFuture;
 
 public final class DirectPlan extends Plan<DoubleBuffer> {
 
-    private static native void jfftw_execute_dft(DirectPlan p, DoubleBuffer ci, DoubleBuffer co);
-    private static native void jfftw_execute_dft_c2r(DirectPlan p, DoubleBuffer ci, DoubleBuffer ro);
-    private static native void jfftw_execute_dft_r2c(DirectPlan p, DoubleBuffer ri, DoubleBuffer co);
-    private static synchronized native long jfftw_plan_dft(int rank, int[] n, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_1d(int n, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_2d(int n0, int n1, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_3d(int n0, int n1, int n2, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r(int rank, int[] n, DoubleBuffer ci, DoubleBuffer ro, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r_1d(int n, DoubleBuffer ci, DoubleBuffer ro, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r_2d(int n0, int n1, DoubleBuffer ci, DoubleBuffer ro, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r_3d(int n0, int n1, int n2, DoubleBuffer ci, DoubleBuffer ro, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c(int rank, int[] n, DoubleBuffer ri, DoubleBuffer co, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c_1d(int n, DoubleBuffer ri, DoubleBuffer co, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c_2d(int n0, int n1, DoubleBuffer ri, DoubleBuffer co, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c_3d(int n0, int n1, int n2, DoubleBuffer ri, DoubleBuffer co, int flags);
+    private static native void jfftw_execute_dft(long p, DoubleBuffer ci, DoubleBuffer co);
+    private static native void jfftw_execute_dft_c2r(long p, DoubleBuffer ci, DoubleBuffer ro);
+    private static native void jfftw_execute_dft_r2c(long p, DoubleBuffer ri, DoubleBuffer co);
+    private static native void jfftw_execute_r2r(long p, DoubleBuffer ri, DoubleBuffer ro);
+    private static native long jfftw_plan_dft(int rank, int[] n, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
+    private static native long jfftw_plan_dft_1d(int n, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
+    private static native long jfftw_plan_dft_2d(int n0, int n1, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
+    private static native long jfftw_plan_dft_3d(int n0, int n1, int n2, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
+    private static native long jfftw_plan_dft_c2r(int rank, int[] n, DoubleBuffer ci, DoubleBuffer ro, int flags);
+    private static native long jfftw_plan_dft_c2r_1d(int n, DoubleBuffer ci, DoubleBuffer ro, int flags);
+    private static native long jfftw_plan_dft_c2r_2d(int n0, int n1, DoubleBuffer ci, DoubleBuffer ro, int flags);
+    private static native long jfftw_plan_dft_c2r_3d(int n0, int n1, int n2, DoubleBuffer ci, DoubleBuffer ro, int flags);
+    private static native long jfftw_plan_dft_r2c(int rank, int[] n, DoubleBuffer ri, DoubleBuffer co, int flags);
+    private static native long jfftw_plan_dft_r2c_1d(int n, DoubleBuffer ri, DoubleBuffer co, int flags);
+    private static native long jfftw_plan_dft_r2c_2d(int n0, int n1, DoubleBuffer ri, DoubleBuffer co, int flags);
+    private static native long jfftw_plan_dft_r2c_3d(int n0, int n1, int n2, DoubleBuffer ri, DoubleBuffer co, int flags);
+    private static native long jfftw_plan_r2r(int rank, int[] n, DoubleBuffer ri, DoubleBuffer ro, int[] kinds, int flags);
+    private static native long jfftw_plan_r2r_1d(int n, DoubleBuffer ri, DoubleBuffer ro, int kind, int flags);
+    private static native long jfftw_plan_r2r_2d(int n0, int n1, DoubleBuffer ri, DoubleBuffer ro, int kind0, int kind1, int flags);
+    private static native long jfftw_plan_r2r_3d(int n0, int n1, int n2, DoubleBuffer ri, DoubleBuffer ro, int kind0, int kind1, int kind2, int flags);
 
     /**
      * Constructs a new plan using direct DoubleBuffers.
@@ -53,6 +61,35 @@ public final class DirectPlan extends Plan<DoubleBuffer> {
         ensureDirect(in, out);
     }
 
+    /**
+     * Constructs a new real to real plan using direct DoubleBuffers.
+     *
+     * @param in    direct DoubleBuffer with real data for input
+     * @param out   direct DoubleBuffer with real data for output
+     * @param kinds transform kind of each dimension
+     * @param flags FFTW flags
+     * @param dims  nullable dimensions
+     */
+    public DirectPlan(DoubleBuffer in, DoubleBuffer out, Kind[] kinds, int flags, Dimensions dims) {
+        super(
+                in,
+                out,
+                in.capacity(),
+                out.capacity(),
+                0,
+                Complexity.REAL_TO_REAL,
+                flags,
+                dims,
+                in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE,
+                Alignment.of(in),
+                Alignment.of(out),
+                null,
+                Precision.DOUBLE,
+                kinds
+        );
+        ensureDirect(in, out);
+    }
+
     /**
      * Executes a plan using new DoubleBuffers
      *
@@ -66,14 +103,65 @@ public final class DirectPlan extends Plan<DoubleBuffer> {
         ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
         if(requiresAligned)
             ensureAlignment(Alignment.of(in), Alignment.of(out));
-        switch (complexity) {
-            case COMPLEX_TO_COMPLEX: jfftw_execute_dft(this, in, out); break;
-            case COMPLEX_TO_REAL: jfftw_execute_dft_c2r(this, in, out); break;
-            case REAL_TO_COMPLEX: jfftw_execute_dft_r2c(this, in, out); break;
-            default: throw new UnsupportedComplexityException(complexity);
+        long start = acquireExecution();
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: jfftw_execute_dft(address, in, out); break;
+                case COMPLEX_TO_REAL: jfftw_execute_dft_c2r(address, in, out); break;
+                case REAL_TO_COMPLEX: jfftw_execute_dft_r2c(address, in, out); break;
+                case REAL_TO_REAL: jfftw_execute_r2r(address, in, out); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            releaseExecution(start);
         }
     }
 
+    /**
+     * Validates new DoubleBuffers against this plan once and caches their native addresses.
+     *
+     * @param in    new direct DoubleBuffer for input
+     * @param out   new direct DoubleBuffer for output
+     * @return handle for allocation-free execution
+     */
+    public Registration register(DoubleBuffer in, DoubleBuffer out) {
+        ensureDirect(in, out);
+        ensureNotDestroyed();
+        ensureSizes(in.capacity(), out.capacity());
+        ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
+        if(requiresAligned)
+            ensureAlignment(Alignment.of(in), Alignment.of(out));
+        return new Registration(this, in, out);
+    }
+
+    /**
+     * Executes a plan using DoubleBuffers registered with this plan
+     *
+     * @param r registration returned by {@link #register(DoubleBuffer, DoubleBuffer)}
+     */
+    public void execute(Registration r) {
+        r.ensurePlan(this);
+        ensureNotDestroyed();
+        long start = acquireExecution();
+        try {
+            r.execute(complexity);
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    /**
+     * Executes a plan using new arrays on a pool thread, so that virtual threads are not pinned
+     * to their carrier during the transform. Waits while the pool's queue is full.
+     *
+     * @param in    new direct DoubleBuffer for input
+     * @param out   new direct DoubleBuffer for output
+     * @return future completed when the output is written
+     */
+    public CompletableFuture<Void> executeAsync(DoubleBuffer in, DoubleBuffer out) {
+        return AsyncExecutor.submit(() -> execute(in, out));
+    }
+
     protected long create()  {
         int[] dims = dimensions.get();
         switch (complexity) {
@@ -95,6 +183,12 @@ public final class DirectPlan extends Plan<DoubleBuffer> {
                 case 3: return jfftw_plan_dft_r2c_3d(dims[0], dims[1], dims[2], input, output, flags);
                 default: return jfftw_plan_dft_r2c(rank, dims, input, output, flags);
             }
+            case REAL_TO_REAL: switch (rank) {
+                case 1: return jfftw_plan_r2r_1d(dims[0], input, output, kinds[0].value, flags);
+                case 2: return jfftw_plan_r2r_2d(dims[0], dims[1], input, output, kinds[0].value, kinds[1].value, flags);
+                case 3: return jfftw_plan_r2r_3d(dims[0], dims[1], dims[2], input, output, kinds[0].value, kinds[1].value, kinds[2].value, flags);
+                default: return jfftw_plan_r2r(rank, dims, input, output, Kind.toFftwKinds(kinds), flags);
+            }
             default: throw new UnsupportedComplexityException(complexity);
         }
     }
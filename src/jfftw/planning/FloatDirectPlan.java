@@ -0,0 +1,116 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+import jfftw.enums.Precision;
+import jfftw.exceptions.NonDirectBufferException;
+import jfftw.exceptions.UnsupportedComplexityException;
+
+import java.nio.FloatBuffer;
+
+public final class FloatDirectPlan extends Plan<FloatBuffer> {
+
+    private static native void jfftwf_execute_dft(long p, FloatBuffer ci, FloatBuffer co);
+    private static native void jfftwf_execute_dft_c2r(long p, FloatBuffer ci, FloatBuffer ro);
+    private static native void jfftwf_execute_dft_r2c(long p, FloatBuffer ri, FloatBuffer co);
+    private static native long jfftwf_plan_dft(int rank, int[] n, FloatBuffer ci, FloatBuffer co, int sign, int flags);
+    private static native long jfftwf_plan_dft_1d(int n, FloatBuffer ci, FloatBuffer co, int sign, int flags);
+    private static native long jfftwf_plan_dft_2d(int n0, int n1, FloatBuffer ci, FloatBuffer co, int sign, int flags);
+    private static native long jfftwf_plan_dft_3d(int n0, int n1, int n2, FloatBuffer ci, FloatBuffer co, int sign, int flags);
+    private static native long jfftwf_plan_dft_c2r(int rank, int[] n, FloatBuffer ci, FloatBuffer ro, int flags);
+    private static native long jfftwf_plan_dft_c2r_1d(int n, FloatBuffer ci, FloatBuffer ro, int flags);
+    private static native long jfftwf_plan_dft_c2r_2d(int n0, int n1, FloatBuffer ci, FloatBuffer ro, int flags);
+    private static native long jfftwf_plan_dft_c2r_3d(int n0, int n1, int n2, FloatBuffer ci, FloatBuffer ro, int flags);
+    private static native long jfftwf_plan_dft_r2c(int rank, int[] n, FloatBuffer ri, FloatBuffer co, int flags);
+    private static native long jfftwf_plan_dft_r2c_1d(int n, FloatBuffer ri, FloatBuffer co, int flags);
+    private static native long jfftwf_plan_dft_r2c_2d(int n0, int n1, FloatBuffer ri, FloatBuffer co, int flags);
+    private static native long jfftwf_plan_dft_r2c_3d(int n0, int n1, int n2, FloatBuffer ri, FloatBuffer co, int flags);
+
+    /**
+     * Constructs a new single precision plan using direct FloatBuffers.
+     *
+     * @param in    direct FloatBuffer with complex or real data for input
+     * @param out   direct FloatBuffer with complex or real data for output
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  nullable dimensions
+     */
+    public FloatDirectPlan(FloatBuffer in, FloatBuffer out, int sign, Complexity cplx, int flags, Dimensions dims) {
+        super(
+                in,
+                out,
+                in.capacity(),
+                out.capacity(),
+                sign,
+                cplx,
+                flags,
+                dims,
+                in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE,
+                Alignment.of(in),
+                Alignment.of(out),
+                null,
+                Precision.FLOAT
+        );
+        ensureDirect(in, out);
+    }
+
+    /**
+     * Executes a plan using new FloatBuffers
+     *
+     * @param in    new direct FloatBuffer for input
+     * @param out   new direct FloatBuffer for output
+     */
+    public void execute(FloatBuffer in, FloatBuffer out) {
+        ensureDirect(in, out);
+        ensureNotDestroyed();
+        ensureSizes(in.capacity(), out.capacity());
+        ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
+        if(requiresAligned)
+            ensureAlignment(Alignment.of(in), Alignment.of(out));
+        long start = acquireExecution();
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: jfftwf_execute_dft(address, in, out); break;
+                case COMPLEX_TO_REAL: jfftwf_execute_dft_c2r(address, in, out); break;
+                case REAL_TO_COMPLEX: jfftwf_execute_dft_r2c(address, in, out); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    protected long create()  {
+        int[] dims = dimensions.get();
+        switch (complexity) {
+            case COMPLEX_TO_COMPLEX: switch (rank) {
+                case 1: return jfftwf_plan_dft_1d(dims[0], input, output, sign, flags);
+                case 2: return jfftwf_plan_dft_2d(dims[0], dims[1], input, output, sign, flags);
+                case 3: return jfftwf_plan_dft_3d(dims[0], dims[1], dims[2], input, output, sign, flags);
+                default: return jfftwf_plan_dft(rank, dims, input, output, sign, flags);
+            }
+            case COMPLEX_TO_REAL: switch (rank) {
+                case 1: return jfftwf_plan_dft_c2r_1d(dims[0], input, output, flags);
+                case 2: return jfftwf_plan_dft_c2r_2d(dims[0], dims[1], input, output, flags);
+                case 3: return jfftwf_plan_dft_c2r_3d(dims[0], dims[1], dims[2], input, output, flags);
+                default: return jfftwf_plan_dft_c2r(rank, dims, input, output, flags);
+            }
+            case REAL_TO_COMPLEX: switch (rank) {
+                case 1: return jfftwf_plan_dft_r2c_1d(dims[0], input, output, flags);
+                case 2: return jfftwf_plan_dft_r2c_2d(dims[0], dims[1], input, output, flags);
+                case 3: return jfftwf_plan_dft_r2c_3d(dims[0], dims[1], dims[2], input, output, flags);
+                default: return jfftwf_plan_dft_r2c(rank, dims, input, output, flags);
+            }
+            default: throw new UnsupportedComplexityException(complexity);
+        }
+    }
+
+    private void ensureDirect(FloatBuffer in, FloatBuffer out) {
+        if (!in.isDirect())
+            throw new NonDirectBufferException("input");
+        if (!out.isDirect())
+            throw new NonDirectBufferException("output");
+    }
+}
@@ -0,0 +1,105 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+import jfftw.enums.Precision;
+import jfftw.exceptions.UnsupportedComplexityException;
+
+public final class FloatPrimitivePlan extends Plan<float[]> {
+
+    private static native void jfftwf_execute_dft(long p, float[] ci, float[] co);
+    private static native void jfftwf_execute_dft_c2r(long p, float[] ci, float[] ro);
+    private static native void jfftwf_execute_dft_r2c(long p, float[] ri, float[] co);
+    private static native long jfftwf_plan_dft(int rank, int[] n, float[] ci, float[] co, int sign, int flags);
+    private static native long jfftwf_plan_dft_1d(int n, float[] ci, float[] co, int sign, int flags);
+    private static native long jfftwf_plan_dft_2d(int n0, int n1, float[] ci, float[] co, int sign, int flags);
+    private static native long jfftwf_plan_dft_3d(int n0, int n1, int n2, float[] ci, float[] co, int sign, int flags);
+    private static native long jfftwf_plan_dft_c2r(int rank, int[] n, float[] ci, float[] ro, int flags);
+    private static native long jfftwf_plan_dft_c2r_1d(int n, float[] ci, float[] ro, int flags);
+    private static native long jfftwf_plan_dft_c2r_2d(int n0, int n1, float[] ci, float[] ro, int flags);
+    private static native long jfftwf_plan_dft_c2r_3d(int n0, int n1, int n2, float[] ci, float[] ro, int flags);
+    private static native long jfftwf_plan_dft_r2c(int rank, int[] n, float[] ri, float[] co, int flags);
+    private static native long jfftwf_plan_dft_r2c_1d(int n, float[] ri, float[] co, int flags);
+    private static native long jfftwf_plan_dft_r2c_2d(int n0, int n1, float[] ri, float[] co, int flags);
+    private static native long jfftwf_plan_dft_r2c_3d(int n0, int n1, int n2, float[] ri, float[] co, int flags);
+
+    /**
+     * Constructs a new single precision plan using primitive float arrays.
+     *
+     * @param in    complex or real input
+     * @param out   complex or real output
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  nullable dimensions
+     */
+    public FloatPrimitivePlan(float[] in, float[] out, int sign, Complexity cplx, int flags, Dimensions dims) {
+        super(
+                in,
+                out,
+                in.length,
+                out.length,
+                sign,
+                cplx,
+                flags,
+                dims,
+                in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE,
+                Alignment.of(in),
+                Alignment.of(out),
+                null,
+                Precision.FLOAT
+        );
+    }
+
+    /**
+     * Executes a plan using new arrays
+     *
+     * @param in    new direct array for input
+     * @param out   new direct array for output
+     */
+    public void execute(float[] in, float[] out) {
+        ensureNotDestroyed();
+        ensureSizes(in.length, out.length);
+        ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
+        if(requiresAligned)
+            ensureAlignment(Alignment.of(in), Alignment.of(out));
+        long start = acquireExecution();
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: jfftwf_execute_dft(address, in, out); break;
+                case COMPLEX_TO_REAL: jfftwf_execute_dft_c2r(address, in, out); break;
+                case REAL_TO_COMPLEX: jfftwf_execute_dft_r2c(address, in, out); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    protected long create()  {
+        int[] dims = dimensions.get();
+        switch (complexity) {
+            case COMPLEX_TO_COMPLEX: switch (rank) {
+                case 1: return jfftwf_plan_dft_1d(dims[0], input, output, sign, flags);
+                case 2: return jfftwf_plan_dft_2d(dims[0], dims[1], input, output, sign, flags);
+                case 3: return jfftwf_plan_dft_3d(dims[0], dims[1], dims[2], input, output, sign, flags);
+                default: return jfftwf_plan_dft(rank, dims, input, output, sign, flags);
+            }
+            case COMPLEX_TO_REAL: switch (rank) {
+                case 1: return jfftwf_plan_dft_c2r_1d(dims[0], input, output, flags);
+                case 2: return jfftwf_plan_dft_c2r_2d(dims[0], dims[1], input, output, flags);
+                case 3: return jfftwf_plan_dft_c2r_3d(dims[0], dims[1], dims[2], input, output, flags);
+                default: return jfftwf_plan_dft_c2r(rank, dims, input, output, flags);
+            }
+            case REAL_TO_COMPLEX: switch (rank) {
+                case 1: return jfftwf_plan_dft_r2c_1d(dims[0], input, output, flags);
+                case 2: return jfftwf_plan_dft_r2c_2d(dims[0], dims[1], input, output, flags);
+                case 3: return jfftwf_plan_dft_r2c_3d(dims[0], dims[1], dims[2], input, output, flags);
+                default: return jfftwf_plan_dft_r2c(rank, dims, input, output, flags);
+            }
+            default: throw new UnsupportedComplexityException(complexity);
+        }
+    }
+
+}
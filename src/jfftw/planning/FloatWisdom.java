@@ -0,0 +1,81 @@
+package jfftw.planning;
+
+import jfftw.Interface;
+
+public class FloatWisdom {
+
+    protected static native boolean jfftwf_export_wisdom_to_filename(String s);
+    protected static native String jfftwf_export_wisdom_to_string();
+    protected static native void jfftwf_forget_wisdom();
+    protected static native boolean jfftwf_import_system_wisdom();
+    protected static native boolean jfftwf_import_wisdom_from_filename(String s);
+    protected static native boolean jfftwf_import_wisdom_from_string(String s);
+
+    /**
+     * Clears all currently stored wisdom.
+     */
+    public static void forgetWisdom() {
+        synchronized (Interface.PLANNER) {
+            jfftwf_forget_wisdom();
+        }
+    }
+
+    /**
+     * Exports wisdom to the file represented by s.
+     *
+     * @param s absolute name of the file to store wisdom
+     * @return true if wisdom export is successful, false otherwise
+     */
+    public static boolean exportToFilename(String s) {
+        synchronized (Interface.PLANNER) {
+            return jfftwf_export_wisdom_to_filename(s);
+        }
+    }
+
+    /**
+     * Exports currently stored wisdom to a String.
+     *
+     * @return currently stored wisdom
+     */
+    public static String export() {
+        synchronized (Interface.PLANNER) {
+            return jfftwf_export_wisdom_to_string();
+        }
+    }
+
+    /**
+     * Imports wisdom from a system location.
+     *
+     * @return true if wisdom import is successful, false otherwise
+     */
+    public static boolean importSystemWisdom() {
+        synchronized (Interface.PLANNER) {
+            return jfftwf_import_system_wisdom();
+        }
+    }
+
+    /**
+     * Imports wisdom from a file represented by s.
+     *
+     * @param s absolute path of a file to import wisdom from
+     * @return true if wisdom import is successful, false otherwise
+     */
+    public static boolean importFromFilename(String s) {
+        synchronized (Interface.PLANNER) {
+            return jfftwf_import_wisdom_from_filename(s);
+        }
+    }
+
+    /**
+     * Imports wisdom from a String.
+     *
+     * @param s wisdom string
+     * @return true if wisdom import is successful, false otherwise
+     */
+    public static boolean importFromString(String s) {
+        synchronized (Interface.PLANNER) {
+            return jfftwf_import_wisdom_from_string(s);
+        }
+    }
+
+}
@@ -0,0 +1,234 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.GuruDimensions;
+import jfftw.data.IODim;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.enums.Kind;
+import jfftw.enums.Precision;
+import jfftw.exceptions.NonDirectBufferException;
+import jfftw.exceptions.UnsupportedComplexityException;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * A plan created with FFTW's 64-bit guru interface on direct DoubleBuffers.
+ * <p>
+ * Guru plans describe every dimension with its own input and output stride, may repeat the
+ * transform over any number of vector dimensions, and may read or write complex data as
+ * separate real and imaginary arrays. Each side of the transform is passed as an array of
+ * buffers: one buffer for real or interleaved complex data, or two buffers holding the real
+ * and imaginary parts of split complex data.
+ */
+public final class GuruPlan extends Plan<DoubleBuffer[]> {
+
+    private final boolean split;
+
+    private static native void jfftw_execute_dft(long p, DoubleBuffer ci, DoubleBuffer co);
+    private static native void jfftw_execute_split_dft(long p, DoubleBuffer ri, DoubleBuffer ii, DoubleBuffer ro, DoubleBuffer io);
+    private static native void jfftw_execute_dft_r2c(long p, DoubleBuffer ri, DoubleBuffer co);
+    private static native void jfftw_execute_split_dft_r2c(long p, DoubleBuffer ri, DoubleBuffer ro, DoubleBuffer io);
+    private static native void jfftw_execute_dft_c2r(long p, DoubleBuffer ci, DoubleBuffer ro);
+    private static native void jfftw_execute_split_dft_c2r(long p, DoubleBuffer ri, DoubleBuffer ii, DoubleBuffer ro);
+    private static native void jfftw_execute_r2r(long p, DoubleBuffer ri, DoubleBuffer ro);
+    private static native long jfftw_plan_guru64_dft(long[] dims, long[] howmany, DoubleBuffer ci, DoubleBuffer co, int sign, int flags);
+    private static native long jfftw_plan_guru64_split_dft(long[] dims, long[] howmany, DoubleBuffer ri, DoubleBuffer ii, DoubleBuffer ro, DoubleBuffer io, int flags);
+    private static native long jfftw_plan_guru64_dft_r2c(long[] dims, long[] howmany, DoubleBuffer ri, DoubleBuffer co, int flags);
+    private static native long jfftw_plan_guru64_split_dft_r2c(long[] dims, long[] howmany, DoubleBuffer ri, DoubleBuffer ro, DoubleBuffer io, int flags);
+    private static native long jfftw_plan_guru64_dft_c2r(long[] dims, long[] howmany, DoubleBuffer ci, DoubleBuffer ro, int flags);
+    private static native long jfftw_plan_guru64_split_dft_c2r(long[] dims, long[] howmany, DoubleBuffer ri, DoubleBuffer ii, DoubleBuffer ro, int flags);
+    private static native long jfftw_plan_guru64_r2r(long[] dims, long[] howmany, DoubleBuffer ri, DoubleBuffer ro, int[] kinds, int flags);
+
+    /**
+     * Constructs a new guru plan using direct DoubleBuffers.
+     * <p>
+     * Split complex transforms have no sign argument in FFTW; a sign of 1 is implemented by
+     * exchanging the real and imaginary buffers of both sides, as the FFTW manual describes.
+     *
+     * @param in    one buffer of real or interleaved complex input, or two buffers of split complex input
+     * @param out   one buffer of real or interleaved complex output, or two buffers of split complex output
+     * @param dims  guru dimensions
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     */
+    public GuruPlan(DoubleBuffer[] in, DoubleBuffer[] out, GuruDimensions dims, int sign, Complexity cplx, int flags) {
+        this(in, out, dims, sign, cplx, flags, null);
+    }
+
+    /**
+     * Constructs a new real to real guru plan using direct DoubleBuffers.
+     *
+     * @param in    one buffer of real input
+     * @param out   one buffer of real output
+     * @param dims  guru dimensions
+     * @param kinds transform kind of each dimension
+     * @param flags FFTW flags
+     */
+    public GuruPlan(DoubleBuffer[] in, DoubleBuffer[] out, GuruDimensions dims, Kind[] kinds, int flags) {
+        this(in, out, dims, 0, Complexity.REAL_TO_REAL, flags, kinds);
+    }
+
+    private GuruPlan(DoubleBuffer[] in, DoubleBuffer[] out, GuruDimensions dims, int sign, Complexity cplx, int flags, Kind[] kinds) {
+        super(
+                ensureBuffers(in, out, dims, cplx, (flags & Flag.UNALIGNED.value) == 0),
+                out,
+                0,
+                0,
+                sign,
+                cplx,
+                flags,
+                null,
+                placementOf(in, out),
+                Alignment.of(in[0]),
+                Alignment.of(out[0]),
+                null,
+                Precision.DOUBLE,
+                kinds,
+                dims
+        );
+        split = isSplit(in, out, cplx);
+    }
+
+    /**
+     * Executes a plan using new DoubleBuffers
+     *
+     * @param in    new input buffers, laid out as those supplied upon plan creation
+     * @param out   new output buffers, laid out as those supplied upon plan creation
+     */
+    public void execute(DoubleBuffer[] in, DoubleBuffer[] out) {
+        ensureNotDestroyed();
+        ensureBuffers(in, out, guru, complexity, requiresAligned);
+        if (isSplit(in, out, complexity) != split)
+            throw new IllegalArgumentException("new arrays not laid out as plan arrays");
+        ensurePlacement(placementOf(in, out));
+        if (requiresAligned)
+            ensureAlignment(Alignment.of(in[0]), Alignment.of(out[0]));
+        long start = acquireExecution();
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: {
+                    if (!split)
+                        jfftw_execute_dft(address, in[0], out[0]);
+                    else if (sign == 1)
+                        jfftw_execute_split_dft(address, in[1], in[0], out[1], out[0]);
+                    else
+                        jfftw_execute_split_dft(address, in[0], in[1], out[0], out[1]);
+                } break;
+                case COMPLEX_TO_REAL: {
+                    if (split)
+                        jfftw_execute_split_dft_c2r(address, in[0], in[1], out[0]);
+                    else
+                        jfftw_execute_dft_c2r(address, in[0], out[0]);
+                } break;
+                case REAL_TO_COMPLEX: {
+                    if (split)
+                        jfftw_execute_split_dft_r2c(address, in[0], out[0], out[1]);
+                    else
+                        jfftw_execute_dft_r2c(address, in[0], out[0]);
+                } break;
+                case REAL_TO_REAL: jfftw_execute_r2r(address, in[0], out[0]); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    protected long create() {
+        long[] dims = flatten(guru.getDims());
+        long[] howmany = flatten(guru.getHowMany());
+        boolean split = isSplit(input, output, complexity);
+        switch (complexity) {
+            case COMPLEX_TO_COMPLEX: {
+                if (!split)
+                    return jfftw_plan_guru64_dft(dims, howmany, input[0], output[0], sign, flags);
+                if (sign == 1)
+                    return jfftw_plan_guru64_split_dft(dims, howmany, input[1], input[0], output[1], output[0], flags);
+                return jfftw_plan_guru64_split_dft(dims, howmany, input[0], input[1], output[0], output[1], flags);
+            }
+            case COMPLEX_TO_REAL: {
+                if (split)
+                    return jfftw_plan_guru64_split_dft_c2r(dims, howmany, input[0], input[1], output[0], flags);
+                return jfftw_plan_guru64_dft_c2r(dims, howmany, input[0], output[0], flags);
+            }
+            case REAL_TO_COMPLEX: {
+                if (split)
+                    return jfftw_plan_guru64_split_dft_r2c(dims, howmany, input[0], output[0], output[1], flags);
+                return jfftw_plan_guru64_dft_r2c(dims, howmany, input[0], output[0], flags);
+            }
+            case REAL_TO_REAL: return jfftw_plan_guru64_r2r(dims, howmany, input[0], output[0], Kind.toFftwKinds(kinds), flags);
+            default: throw new UnsupportedComplexityException(complexity);
+        }
+    }
+
+    /**
+     * @return copy of this plan's guru dimensions
+     */
+    public GuruDimensions getGuruDimensions() {
+        return new GuruDimensions(guru);
+    }
+
+    /**
+     * @return true if this plan reads or writes split complex arrays
+     */
+    public boolean isSplit() {
+        return split;
+    }
+
+    /**
+     * Flattens dimensions into (n, is, os) triples for the native planners.
+     */
+    private static long[] flatten(IODim[] dims) {
+        long[] flat = new long[dims.length * 3];
+        for (int i = 0; i < dims.length; i++) {
+            flat[3 * i] = dims[i].getN();
+            flat[3 * i + 1] = dims[i].getInputStride();
+            flat[3 * i + 2] = dims[i].getOutputStride();
+        }
+        return flat;
+    }
+
+    private static Placement placementOf(DoubleBuffer[] in, DoubleBuffer[] out) {
+        return in[0] == out[0] ? Placement.IN_PLACE : Placement.OUT_OF_PLACE;
+    }
+
+    private static boolean isSplit(DoubleBuffer[] in, DoubleBuffer[] out, Complexity cplx) {
+        return (cplx == Complexity.REAL_TO_COMPLEX ? out : in).length == 2;
+    }
+
+    /**
+     * Checks buffer counts, directness, alignment and that every buffer holds each element addressed by the dimensions.
+     *
+     * @return the input buffers
+     */
+    private static DoubleBuffer[] ensureBuffers(DoubleBuffer[] in, DoubleBuffer[] out, GuruDimensions dims, Complexity cplx, boolean aligned) {
+        if (cplx == null)
+            throw new UnsupportedComplexityException();
+        boolean complexIn = cplx == Complexity.COMPLEX_TO_COMPLEX || cplx == Complexity.COMPLEX_TO_REAL;
+        boolean complexOut = cplx == Complexity.COMPLEX_TO_COMPLEX || cplx == Complexity.REAL_TO_COMPLEX;
+        if (in.length != 1 && !(complexIn && in.length == 2))
+            throw new IllegalArgumentException("input requires " + (complexIn ? "one or two buffers" : "one buffer"));
+        if (out.length != 1 && !(complexOut && out.length == 2))
+            throw new IllegalArgumentException("output requires " + (complexOut ? "one or two buffers" : "one buffer"));
+        if (cplx == Complexity.COMPLEX_TO_COMPLEX && in.length != out.length)
+            throw new IllegalArgumentException("input and output must both be interleaved or both be split");
+        long iExtent = dims.inputExtent(cplx == Complexity.COMPLEX_TO_REAL) * (complexIn && in.length == 1 ? 2 : 1);
+        long oExtent = dims.outputExtent(cplx == Complexity.REAL_TO_COMPLEX) * (complexOut && out.length == 1 ? 2 : 1);
+        ensureBuffers(in, iExtent, "input", aligned);
+        ensureBuffers(out, oExtent, "output", aligned);
+        return in;
+    }
+
+    private static void ensureBuffers(DoubleBuffer[] buffers, long extent, String name, boolean aligned) {
+        for (DoubleBuffer b : buffers) {
+            if (!b.isDirect())
+                throw new NonDirectBufferException(name);
+            if (b.capacity() < extent)
+                throw new IllegalArgumentException(name + " too small for guru dimensions");
+        }
+        if (aligned && buffers.length == 2 && !Alignment.of(buffers[0]).equals(Alignment.of(buffers[1])))
+            throw new IllegalArgumentException(name + " real and imaginary buffers not equally aligned");
+    }
+}
@@ -0,0 +1,29 @@
+package jfftw.planning;
+
+import jfftw.Backend;
+
+/**
+ * Plan operations implemented by the JNI library, one constant per precision.
+ */
+enum JniBackend implements Backend {
+
+    DOUBLE {
+        public void execute(long plan) { Plan.jfftw_execute(plan); }
+        public void destroy(long plan) { Plan.jfftw_destroy_plan(plan); }
+        public double cost(long plan) { return Plan.jfftw_cost(plan); }
+        public double estimateCost(long plan) { return Plan.jfftw_estimate_cost(plan); }
+        public double flops(long plan) { return Plan.jfftw_flops(plan); }
+        public void print(long plan) { Plan.jfftw_print_plan(plan); }
+        public String sprint(long plan) { return Plan.jfftw_sprint_plan(plan); }
+    },
+
+    FLOAT {
+        public void execute(long plan) { Plan.jfftwf_execute(plan); }
+        public void destroy(long plan) { Plan.jfftwf_destroy_plan(plan); }
+        public double cost(long plan) { return Plan.jfftwf_cost(plan); }
+        public double estimateCost(long plan) { return Plan.jfftwf_estimate_cost(plan); }
+        public double flops(long plan) { return Plan.jfftwf_flops(plan); }
+        public void print(long plan) { Plan.jfftwf_print_plan(plan); }
+        public String sprint(long plan) { return Plan.jfftwf_sprint_plan(plan); }
+    }
+}
@@ -0,0 +1,132 @@
+package jfftw.planning;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of nanosecond latencies with log-linear buckets.
+ * <p>
+ * As in an HDR histogram, every power of two is split into 16 equal buckets, so a recorded
+ * value is reported to within 1/16 of itself across the whole range of a long, in a fixed table
+ * of under a thousand counters. Every counter is striped, a LongAdder per bucket and for the
+ * total and a LongAccumulator for the maximum, so threads recording at once into the same
+ * histogram update separate cells instead of contending on one. Recording allocates only the
+ * first time a bucket is used or a counter is first contended.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4, SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB;
+
+    private final AtomicReferenceArray<LongAdder> counts = new AtomicReferenceArray<>(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param nanos latency to record, negative values counting as 0
+     */
+    public void record(long nanos) {
+        long v = Math.max(nanos, 0);
+        bucket(index(v)).increment();
+        total.add(v);
+        max.accumulate(v);
+    }
+
+    private LongAdder bucket(int i) {
+        LongAdder b = counts.get(i);
+        if (b == null) {
+            counts.compareAndSet(i, null, new LongAdder());
+            b = counts.get(i);
+        }
+        return b;
+    }
+
+    private long count(int i) {
+        LongAdder b = counts.get(i);
+        return b == null ? 0 : b.sum();
+    }
+
+    /**
+     * @return number of latencies recorded
+     */
+    public long getCount() {
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            n += count(i);
+        return n;
+    }
+
+    /**
+     * @return sum of the latencies recorded in nanoseconds
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * @return largest latency recorded in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return mean latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) total.sum() / n;
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100
+     * @return upper bound of the bucket holding the percentile in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        long n = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+            n += snapshot[i] = count(i);
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n)), seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank && snapshot[i] > 0)
+                return Math.min(upper(i), max.get());
+        }
+        return 0;
+    }
+
+    /**
+     * Clears the histogram. Values recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            LongAdder b = counts.get(i);
+            if (b != null)
+                b.reset();
+        }
+        total.reset();
+        max.reset();
+    }
+
+    static int index(long v) {
+        if (v < SUB)
+            return (int) v;
+        int e = 63 - Long.numberOfLeadingZeros(v);
+        return (e - SUB_BITS + 1) << SUB_BITS | (int) ((v >>> (e - SUB_BITS)) & (SUB - 1));
+    }
+
+    /**
+     * @return largest value counted in bucket i
+     */
+    static long upper(int i) {
+        if (i < SUB)
+            return i;
+        int e = (i >> SUB_BITS) + SUB_BITS - 1;
+        long low = (long) (SUB + (i & (SUB - 1))) << (e - SUB_BITS);
+        return low + (1L << (e - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,254 @@
+package jfftw.planning;
+
+import jfftw.data.Batch;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * In-place complex transform of a multidimensional array stored in a file too large for memory.
+ * <p>
+ * The file holds the array in row-major order as interleaved complex doubles in native byte
+ * order, with no header, so the result has the layout of a resident {@link DirectPlan} transform
+ * of the same array. The transform runs in two passes over the file. The first maps slabs of
+ * whole planes of the first dimension and transforms the remaining dimensions of every plane in
+ * place with one batched plan per slab. The second reads blocks of columns, the same range of
+ * each plane, into a staging buffer with positional reads, transforms the first dimension of
+ * every column with a batched plan of strided transforms, and writes the block back. This blocked
+ * transpose through the staging buffer keeps the file in its original layout.
+ * <p>
+ * I/O runs on a dedicated thread: the next slab is paged in and the previous one written back
+ * while a slab is transformed, and the two staging buffers alternate so that a block is read and
+ * another written back while a third is transformed. The memory budget bounds the two staging
+ * buffers, each of which also bounds a mapped slab. Transforms are unnormalized, as in FFTW.
+ */
+public class OutOfCoreTransform implements AutoCloseable {
+
+    protected final Path file;
+    protected final Dimensions dimensions;
+    protected final int sign, flags;
+    protected final int n0, planes, width;
+    protected final long rest;
+    protected final FileChannel channel;
+    protected final ExecutorService io;
+    private final ByteBuffer[] staging = new ByteBuffer[2];
+    private final DoubleBuffer[] blocks = new DoubleBuffer[2];
+    private final DirectBatchPlan slabPlan, lastSlabPlan, blockPlan, lastBlockPlan;
+
+    /**
+     * Opens a file and plans both passes on the staging buffers.
+     *
+     * @param file   file holding the array
+     * @param dims   dimensions of the array, at least two
+     * @param sign   transform sign (-1 or 1)
+     * @param flags  FFTW flags
+     * @param budget bytes of the two staging buffers together
+     * @throws IOException if the file cannot be opened or does not hold the array
+     */
+    public OutOfCoreTransform(Path file, Dimensions dims, int sign, int flags, long budget) throws IOException {
+        if (dims == null || dims.size() < 2)
+            throw new IllegalArgumentException("out-of-core transforms require at least two dimensions");
+        int[] d = dims.get();
+        this.file = file;
+        this.dimensions = new Dimensions(d);
+        this.sign = sign;
+        this.flags = flags;
+        n0 = d[0];
+        rest = new Dimensions(Arrays.copyOfRange(d, 1, d.length)).product();
+
+        long half = Math.min(budget / 2, Integer.MAX_VALUE - 64);
+        long complexBytes = 2L * Double.BYTES;
+        planes = (int) Math.min(n0, half / (rest * complexBytes));
+        width = (int) Math.min(rest, half / ((long) n0 * complexBytes));
+        if (planes < 1 || width < 1)
+            throw new IllegalArgumentException("memory budget too small for one plane and one column");
+
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        DirectBatchPlan[] p = new DirectBatchPlan[4];
+        try {
+            if (channel.size() != dims.product() * complexBytes)
+                throw new IOException(file + " does not hold " + dims.product() + " complex doubles");
+            long bytes = Math.max(planes * rest, (long) n0 * width) * complexBytes;
+            for (int i = 0; i < 2; i++) {
+                staging[i] = ByteBuffer.allocateDirect((int) bytes + 64).alignedSlice(64).order(ByteOrder.nativeOrder());
+                blocks[i] = staging[i].asDoubleBuffer();
+            }
+
+            // every plan is created on staging buffer 0, which holds no data yet
+            DoubleBuffer s = blocks[0];
+            Dimensions plane = new Dimensions(Arrays.copyOfRange(d, 1, d.length));
+            int lastPlanes = n0 % planes, lastWidth = (int) (rest % width);
+            p[0] = new DirectBatchPlan(s, s, sign, Complexity.COMPLEX_TO_COMPLEX, flags, plane, new Batch(planes));
+            if (lastPlanes != 0)
+                p[1] = new DirectBatchPlan(s, s, sign, Complexity.COMPLEX_TO_COMPLEX, flags, plane, new Batch(lastPlanes));
+            p[2] = columns(s, width);
+            if (lastWidth != 0)
+                p[3] = columns(s, lastWidth);
+        } catch (IOException | RuntimeException e) {
+            for (DirectBatchPlan plan : p)
+                if (plan != null)
+                    plan.close();
+            channel.close();
+            throw e;
+        }
+        slabPlan = p[0];
+        lastSlabPlan = p[1];
+        blockPlan = p[2];
+        lastBlockPlan = p[3];
+
+        io = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "jfftw-out-of-core");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private DirectBatchPlan columns(DoubleBuffer s, int w) {
+        return new DirectBatchPlan(s, s, sign, Complexity.COMPLEX_TO_COMPLEX, flags, new Dimensions(n0), new Batch(w, w, 1, w, 1));
+    }
+
+    /**
+     * Transforms the file in place.
+     *
+     * @throws IOException if the file cannot be read or written
+     */
+    public void execute() throws IOException {
+        transformPlanes();
+        transformColumns();
+    }
+
+    /**
+     * First pass: transforms the trailing dimensions of every plane, one mapped slab at a time.
+     */
+    private void transformPlanes() throws IOException {
+        int slabs = (n0 + planes - 1) / planes;
+        MappedByteBuffer current = map(0);
+        Future<?> loaded = io.submit(current::load), written = null;
+        for (int i = 0; i < slabs; i++) {
+            await(loaded);
+            MappedByteBuffer next = null;
+            if (i + 1 < slabs) {
+                next = map(i + 1);
+                loaded = io.submit(next::load);
+            }
+            DoubleBuffer slab = current.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+            (i + 1 < slabs || lastSlabPlan == null ? slabPlan : lastSlabPlan).execute(slab, slab);
+            // writing back through the mapping makes the slab visible to the positional reads of the second pass
+            MappedByteBuffer done = current;
+            // the previous write has had a whole transform to finish; a failure must not be dropped
+            await(written);
+            written = io.submit(() -> { done.force(); });
+            current = next;
+        }
+        await(written);
+    }
+
+    private MappedByteBuffer map(int slab) throws IOException {
+        long first = (long) slab * planes, count = Math.min(planes, n0 - first);
+        long bytes = rest * 2L * Double.BYTES;
+        return channel.map(FileChannel.MapMode.READ_WRITE, first * bytes, count * bytes);
+    }
+
+    /**
+     * Second pass: transforms the first dimension of every column, one block of columns at a time.
+     */
+    private void transformColumns() throws IOException {
+        int count = (int) ((rest + width - 1) / width);
+        Future<?> loaded = io.submit(() -> { transfer(0, staging[0], false); return null; }), written = null;
+        for (int b = 0; b < count; b++) {
+            await(loaded);
+            if (b + 1 < count) {
+                int next = b + 1;
+                // queued after the write of block b - 1, which used the same staging buffer
+                loaded = io.submit(() -> { transfer(next, staging[next % 2], false); return null; });
+            }
+            DoubleBuffer block = blocks[b % 2];
+            (b + 1 < count || lastBlockPlan == null ? blockPlan : lastBlockPlan).execute(block, block);
+            int done = b;
+            await(written);
+            written = io.submit(() -> { transfer(done, staging[done % 2], true); return null; });
+        }
+        await(written);
+    }
+
+    /**
+     * Reads or writes one block of columns, the same range of every plane, packed in the staging buffer.
+     */
+    private void transfer(int block, ByteBuffer buffer, boolean write) throws IOException {
+        long first = (long) block * width;
+        int w = (int) Math.min(width, rest - first);
+        int bytes = w * 2 * Double.BYTES;
+        for (int i = 0; i < n0; i++) {
+            ByteBuffer row = buffer.duplicate();
+            row.limit(i * bytes + bytes).position(i * bytes);
+            long position = ((long) i * rest + first) * 2 * Double.BYTES;
+            while (row.hasRemaining()) {
+                int n = write ? channel.write(row, position) : channel.read(row, position);
+                if (n < 0)
+                    throw new IOException("unexpected end of " + file);
+                position += n;
+            }
+        }
+    }
+
+    private static void await(Future<?> f) throws IOException {
+        if (f == null)
+            return;
+        try {
+            f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for I/O", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * @return number of planes in each mapped slab of the first pass
+     */
+    public int getSlabPlanes() {
+        return planes;
+    }
+
+    /**
+     * @return number of columns in each block of the second pass
+     */
+    public int getBlockColumns() {
+        return width;
+    }
+
+    /**
+     * Stops the I/O thread, destroys the plans and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        io.shutdown();
+        slabPlan.close();
+        blockPlan.close();
+        if (lastSlabPlan != null)
+            lastSlabPlan.close();
+        if (lastBlockPlan != null)
+            lastBlockPlan.close();
+        channel.close();
+    }
+}
@@ -0,0 +1,213 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+
+import java.nio.DoubleBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes many independent transforms of one shape in parallel.
+ * <p>
+ * Every transform is a new array execution of a plan shared by all workers, which FFTW allows
+ * from any number of threads at once, so workers need no plan replicas and never lock. One plan
+ * is created per buffer alignment seen, on buffers of its own as in a {@link PlanCache}, and kept
+ * until {@link #close()}, so a plan is never destroyed under a running worker. Plans
+ * should be single threaded, see {@link jfftw.Interface#planWithNThreads(int)}, as the
+ * parallelism comes from running transforms side by side. By default work is dispatched to a
+ * work-stealing ForkJoinPool with one worker per processor.
+ */
+public class ParallelExecutor implements AutoCloseable {
+
+    protected final int sign, flags;
+    protected final Complexity complexity;
+    protected final Dimensions dimensions;
+    protected final ExecutorService pool;
+    protected final boolean ownsPool;
+    protected final ConcurrentHashMap<PlanCache.Key, DirectPlan> plans = new ConcurrentHashMap<>();
+    private boolean closed = false;
+    protected final LongAdder submitted = new LongAdder(), completed = new LongAdder(), failed = new LongAdder(), executionNanos = new LongAdder();
+    protected final long created = System.nanoTime();
+
+    /**
+     * Constructs an executor with its own ForkJoinPool of one worker per processor.
+     *
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  transform dimensions
+     */
+    public ParallelExecutor(int sign, Complexity cplx, int flags, Dimensions dims) {
+        this(sign, cplx, flags, dims, new ForkJoinPool(Runtime.getRuntime().availableProcessors()), true);
+    }
+
+    /**
+     * Constructs an executor on a pool owned by the caller, which is not shut down by {@link #close()}.
+     *
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  transform dimensions
+     * @param pool  pool running the transforms
+     */
+    public ParallelExecutor(int sign, Complexity cplx, int flags, Dimensions dims, ExecutorService pool) {
+        this(sign, cplx, flags, dims, pool, false);
+    }
+
+    private ParallelExecutor(int sign, Complexity cplx, int flags, Dimensions dims, ExecutorService pool, boolean ownsPool) {
+        this.sign = sign;
+        this.flags = flags;
+        this.complexity = cplx;
+        this.dimensions = new Dimensions(dims);
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Queues one transform.
+     *
+     * @param in  direct DoubleBuffer with complex or real data for input
+     * @param out direct DoubleBuffer with complex or real data for output
+     * @return future completed when the output is written
+     */
+    public CompletableFuture<Void> submit(DoubleBuffer in, DoubleBuffer out) {
+        // counted before dispatch so a fast worker cannot finish before its submission is counted
+        submitted.increment();
+        try {
+            return CompletableFuture.runAsync(() -> execute(in, out), pool);
+        } catch (RejectedExecutionException e) {
+            submitted.decrement();
+            throw e;
+        }
+    }
+
+    /**
+     * Transforms every pair of buffers and waits for all of them.
+     *
+     * @param in  input buffers
+     * @param out output buffers, one per input buffer
+     */
+    public void executeAll(List<DoubleBuffer> in, List<DoubleBuffer> out) {
+        if (in.size() != out.size())
+            throw new IllegalArgumentException("input and output counts differ");
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[in.size()];
+        for (int i = 0; i < futures.length; i++)
+            futures[i] = submit(in.get(i), out.get(i));
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw ex;
+        }
+    }
+
+    private void execute(DoubleBuffer in, DoubleBuffer out) {
+        long start = System.nanoTime();
+        try {
+            plan(in, out).execute(in, out);
+            completed.increment();
+        } catch (RuntimeException | Error e) {
+            failed.increment();
+            throw e;
+        } finally {
+            executionNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets or creates the plan for the alignments of the buffers. Plans are created under the
+     * lock which {@link #close()} holds to destroy them, so none is created after close.
+     */
+    private DirectPlan plan(DoubleBuffer in, DoubleBuffer out) {
+        PlanCache.Key key = new PlanCache.Key(dimensions, complexity, sign, flags, Alignment.of(in), Alignment.of(out),
+                in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
+        DirectPlan p = plans.get(key);
+        if (p != null)
+            return p;
+        synchronized (plans) {
+            if (closed)
+                throw new IllegalStateException("executor is closed");
+            p = plans.get(key);
+            if (p == null) {
+                p = key.create();
+                plans.put(key, p);
+            }
+            return p;
+        }
+    }
+
+    /**
+     * @return number of transforms submitted
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * @return number of transforms completed successfully
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * @return number of transforms which threw
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return number of transforms submitted but not yet finished, whether queued or running
+     */
+    public long getQueueDepth() {
+        return submitted.sum() - completed.sum() - failed.sum();
+    }
+
+    /**
+     * @return total time workers spent transforming in nanoseconds, including plan lookup
+     */
+    public long getExecutionNanos() {
+        return executionNanos.sum();
+    }
+
+    /**
+     * @return transforms completed per second since this executor was created
+     */
+    public double getThroughput() {
+        return completed.sum() * 1e9 / Math.max(1, System.nanoTime() - created);
+    }
+
+    /**
+     * Shuts down an owned pool after its queued transforms and destroys this executor's plans.
+     * Transforms already running on a caller's pool complete normally and those starting afterwards fail.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (plans) {
+            closed = true;
+            for (DirectPlan p : plans.values())
+                p.close();
+            plans.clear();
+        }
+    }
+}
@@ -1,39 +1,104 @@
 package jfftw.planning;
 
+import jfftw.Backend;
+import jfftw.Interface;
 import jfftw.data.Alignment;
+import jfftw.data.Batch;
 import jfftw.data.Dimensions;
+import jfftw.data.GuruDimensions;
+import jfftw.data.IODim;
 import jfftw.enums.Complexity;
 import jfftw.enums.Flag;
+import jfftw.enums.Kind;
+import jfftw.enums.Precision;
 
-public abstract class Plan<T> {
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+
+/**
+ * Base class of all plans.
+ * <p>
+ * A plan owns a native FFTW plan, which is destroyed by {@link #close()} or {@link #destroy()},
+ * or by a cleaner once the plan becomes unreachable. Destroying a plan while other threads
+ * execute it is safe: the native plan is released when the last execution returns, and later
+ * executions throw.
+ */
+public abstract class Plan<T> implements AutoCloseable {
+
+    private static final Cleaner cleaner = Cleaner.create();
 
     protected final T input, output;
-    protected final int sign, size, rank, flags;
+    protected final int sign, rank, flags;
+    protected final long size;
     protected final Complexity complexity;
+    protected final Precision precision;
     protected final Placement placement;
     protected final long address;
     protected final Dimensions dimensions;
     protected final Alignment iAlign, oAlign;
+    protected final Batch batch;
+    protected final Kind[] kinds;
+    protected final GuruDimensions guru;
+    protected final long inputElements, outputElements;
     protected final boolean requiresAligned;
-    protected boolean destroyed = false;
-
-    protected static synchronized native double jfftw_cost(Plan<?> p);
-    protected static synchronized native void jfftw_destroy_plan(Plan<?> p);
-    protected static synchronized native double jfftw_estimate_cost(Plan<?> p);
-    protected static native void jfftw_execute(Plan<?> p);
-    protected static synchronized native void jfftw_print_plan(Plan<?> p);
-    protected static synchronized native String jfftw_sprint_plan(Plan<?> p);
+    private final Backend backend;
+    private final ShapeMetrics metrics;
+    private final PlanHandle handle;
+    private final Cleaner.Cleanable cleanable;
+
+    protected static native double jfftw_cost(long p);
+    protected static native void jfftw_destroy_plan(long p);
+    protected static native double jfftw_estimate_cost(long p);
+    protected static native double jfftw_flops(long p);
+    protected static native void jfftw_execute(long p);
+    protected static native void jfftw_print_plan(long p);
+    protected static native String jfftw_sprint_plan(long p);
+    protected static native double jfftwf_cost(long p);
+    protected static native void jfftwf_destroy_plan(long p);
+    protected static native double jfftwf_estimate_cost(long p);
+    protected static native double jfftwf_flops(long p);
+    protected static native void jfftwf_execute(long p);
+    protected static native void jfftwf_print_plan(long p);
+    protected static native String jfftwf_sprint_plan(long p);
 
     protected Plan(T i, T o, int is, int os, int s, Complexity c, int f, Dimensions d, Placement p, Alignment ia, Alignment oa) {
+        this(i, o, is, os, s, c, f, d, p, ia, oa, null);
+    }
+
+    protected Plan(T i, T o, int is, int os, int s, Complexity c, int f, Dimensions d, Placement p, Alignment ia, Alignment oa, Batch b) {
+        this(i, o, is, os, s, c, f, d, p, ia, oa, b, Precision.DOUBLE);
+    }
+
+    protected Plan(T i, T o, int is, int os, int s, Complexity c, int f, Dimensions d, Placement p, Alignment ia, Alignment oa, Batch b, Precision pr) {
+        this(i, o, is, os, s, c, f, d, p, ia, oa, b, pr, null);
+    }
+
+    protected Plan(T i, T o, int is, int os, int s, Complexity c, int f, Dimensions d, Placement p, Alignment ia, Alignment oa, Batch b, Precision pr, Kind[] k) {
+        this(i, o, is, os, s, c, f, d, p, ia, oa, b, pr, k, null);
+    }
+
+    /**
+     * Full constructor. Guru plans validate their own arrays, so when g is not null the
+     * dimensions are taken from g and the input and output sizes are not checked here.
+     */
+    protected Plan(T i, T o, int is, int os, int s, Complexity c, int f, Dimensions d, Placement p, Alignment ia, Alignment oa, Batch b, Precision pr, Kind[] k, GuruDimensions g) {
 
         input = i;
         output = o;
         sign = s;
         complexity = c;
+        precision = pr;
         flags = f;
         placement = p;
+        guru = g == null ? null : new GuruDimensions(g);
+        if (guru != null)
+            d = guru.toDimensions();
 
         if (d == null || d.size() == 0) {
+            if (b != null)
+                throw new IllegalArgumentException("batched plans require dimensions");
+            if (placement == Placement.IN_PLACE && (complexity == Complexity.REAL_TO_COMPLEX || complexity == Complexity.COMPLEX_TO_REAL))
+                throw new IllegalArgumentException("in-place real transforms require dimensions");
             if (complexity == Complexity.COMPLEX_TO_COMPLEX || complexity == Complexity.COMPLEX_TO_REAL)
                 d = new Dimensions(is / 2);
             else
@@ -43,24 +108,82 @@ public abstract class Plan<T> {
         rank = d.size();
         dimensions = new Dimensions(d);
 
-        int N = 1;
-        for (int n : dimensions.get())
-            N *= n;
-        size = N;
+        if (complexity == Complexity.REAL_TO_REAL) {
+            if (k == null || k.length != rank)
+                throw new IllegalArgumentException("real to real plans require one kind per dimension");
+            kinds = Arrays.copyOf(k, k.length);
+        } else {
+            kinds = null;
+        }
+
+        size = dimensions.product();
+        if (guru == null && size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("transform size exceeds buffer capacity");
+
+        int last = dimensions.get()[rank - 1];
+        long half = size / last * (last / 2 + 1);
+        inputElements = complexity == Complexity.COMPLEX_TO_REAL ? half : size;
+        outputElements = complexity == Complexity.REAL_TO_COMPLEX ? half : size;
+        batch = b == null ? null : b.resolve((int) inputElements, (int) outputElements);
 
         iAlign = new Alignment(ia);
         oAlign = new Alignment(oa);
         requiresAligned = (flags & Flag.UNALIGNED.value) == 0;
 
-        ensureSizes(is, os);
-        address = create();
+        if (guru == null)
+            ensureSizes(is, os);
+        metrics = PlanMetrics.of(shape());
+        PlanningEvent event = metrics == null ? null : new PlanningEvent();
+        long a, planning;
+        synchronized (Interface.PLANNER) {
+            if (event != null)
+                event.begin();
+            long start = System.nanoTime();
+            a = create();
+            planning = System.nanoTime() - start;
+            if (event != null)
+                event.end();
+        }
+        address = a;
         if (address == 0)
             throw new NullPointerException("plan creation returned null");
+        backend = backend();
+        handle = new PlanHandle(address, backend, footprint(), metrics);
+        cleanable = cleaner.register(this, handle);
+        if (metrics != null) {
+            double estimate = backend.estimateCost(address);
+            metrics.planned(planning, backend.cost(address), estimate, backend.flops(address));
+            if (event.shouldCommit()) {
+                event.shape = metrics.getShape();
+                event.flags = flags;
+                event.estimateCost = estimate;
+                event.commit();
+            }
+        }
     }
 
     protected abstract long create();
 
+    /**
+     * Called once by the constructor, after {@link #create()}.
+     *
+     * @return backend which created this plan and executes and destroys it
+     */
+    protected Backend backend() {
+        return precision == Precision.FLOAT ? JniBackend.FLOAT : JniBackend.DOUBLE;
+    }
+
     protected final void ensureSizes(int iSize, int oSize) {
+        if (batch != null) {
+            ensureBatchSizes(iSize, oSize);
+            return;
+        }
+        if (placement == Placement.IN_PLACE && (complexity == Complexity.REAL_TO_COMPLEX || complexity == Complexity.COMPLEX_TO_REAL)) {
+            // the real side is padded to 2 * (n / 2 + 1) in the last dimension, the size of the complex side
+            if (iSize != 2 * Math.min(inputElements, outputElements))
+                throw new IllegalArgumentException("in-place real transforms require the last dimension padded to 2 * (n / 2 + 1)");
+            return;
+        }
         switch (complexity) {
             case COMPLEX_TO_COMPLEX: {
                 if (iSize != oSize)
@@ -90,11 +213,131 @@ public abstract class Plan<T> {
         }
     }
 
+    /**
+     * Checks that input and output arrays hold every element addressed by this plan's batch.
+     *
+     * @param iSize input capacity in doubles
+     * @param oSize output capacity in doubles
+     */
+    private void ensureBatchSizes(int iSize, int oSize) {
+        if (iSize < extent(inputElements, batch.getInputStride(), batch.getInputDistance(), inputWidth()))
+            throw new IllegalArgumentException("input too small for batch");
+        if (oSize < extent(outputElements, batch.getOutputStride(), batch.getOutputDistance(), outputWidth()))
+            throw new IllegalArgumentException("output too small for batch");
+    }
+
+    private long extent(long elems, int stride, int dist, int width) {
+        return ((long) (batch.getHowMany() - 1) * dist + (elems - 1) * stride + 1) * width;
+    }
+
+    /**
+     * Bytes of array data this plan transforms per execution. FFTW does not report the memory a
+     * plan holds, but its twiddle factors and buffers grow with this figure.
+     */
+    private long footprint() {
+        long howmany = 1;
+        if (batch != null)
+            howmany = batch.getHowMany();
+        else if (guru != null)
+            for (IODim d : guru.getHowMany())
+                howmany *= d.getN();
+        long elems = inputElements * inputWidth() + outputElements * outputWidth();
+        return elems * howmany * (precision == Precision.FLOAT ? Float.BYTES : Double.BYTES);
+    }
+
+    int inputWidth() {
+        return complexity == Complexity.COMPLEX_TO_COMPLEX || complexity == Complexity.COMPLEX_TO_REAL ? 2 : 1;
+    }
+
+    int outputWidth() {
+        return complexity == Complexity.COMPLEX_TO_COMPLEX || complexity == Complexity.REAL_TO_COMPLEX ? 2 : 1;
+    }
+
     protected final void ensureNotDestroyed() {
-        if (destroyed)
+        if (handle.isClosed())
             throw new NullPointerException("plan is destroyed");
     }
 
+    /**
+     * Keeps the native plan alive until {@link #release()}, which must follow in a finally block.
+     */
+    protected final void acquire() {
+        if (!handle.acquire())
+            throw new NullPointerException("plan is destroyed");
+    }
+
+    protected final void release() {
+        handle.release();
+    }
+
+    /**
+     * Acquires the native plan for one execution, which must be followed by
+     * {@link #releaseExecution(long)} in a finally block.
+     *
+     * @return start time of the execution, or 0 if metrics are off
+     */
+    protected final long acquireExecution() {
+        return acquireExecution(false);
+    }
+
+    /**
+     * Acquires the native plan for one execution, which must be followed by
+     * {@link #releaseExecution(long, boolean)} in a finally block.
+     *
+     * @param timed true if the caller times the execution itself, which then shares the metrics' clock reads
+     * @return start time of the execution, or 0 if metrics are off and the execution is not timed
+     */
+    protected final long acquireExecution(boolean timed) {
+        acquire();
+        return metrics == null && !timed ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records the execution's latency and releases the native plan.
+     *
+     * @param start value returned by {@link #acquireExecution()}
+     */
+    protected final void releaseExecution(long start) {
+        releaseExecution(start, false);
+    }
+
+    /**
+     * Records the execution's latency and releases the native plan.
+     *
+     * @param start value returned by {@link #acquireExecution(boolean)}
+     * @param timed value passed to {@link #acquireExecution(boolean)}
+     * @return end time of the execution, or 0 if metrics are off and the execution is not timed
+     */
+    protected final long releaseExecution(long start, boolean timed) {
+        long end = metrics == null && !timed ? 0 : System.nanoTime();
+        if (metrics != null)
+            metrics.executed(end - start);
+        handle.release();
+        return end;
+    }
+
+    /**
+     * Describes the shape this plan's metrics are kept under, e.g.
+     * <code>DOUBLE COMPLEX_TO_COMPLEX -1 1024x1024 OUT_OF_PLACE</code>.
+     */
+    private String shape() {
+        StringBuilder b = new StringBuilder().append(precision).append(' ').append(complexity);
+        if (complexity == Complexity.COMPLEX_TO_COMPLEX)
+            b.append(' ').append(sign);
+        if (kinds != null)
+            b.append(' ').append(Arrays.toString(kinds));
+        b.append(' ');
+        int[] d = dimensions.get();
+        for (int i = 0; i < d.length; i++)
+            b.append(i == 0 ? "" : "x").append(d[i]);
+        b.append(' ').append(placement);
+        if (batch != null)
+            b.append(" howmany ").append(batch.getHowMany());
+        else if (guru != null && guru.getHowMany().length > 0)
+            b.append(" guru");
+        return b.toString();
+    }
+
     protected final void ensureAlignment(Alignment in, Alignment out) {
         if (!in.equals(iAlign) || !out.equals(oAlign))
             throw new IllegalArgumentException("new array alignment not equal to plan alignment");
@@ -125,8 +368,12 @@ public abstract class Plan<T> {
      * Since this method is implemented in native code, it cannot guarantee the output will be as expected.
      */
     public final void print() {
-        ensureNotDestroyed();
-        jfftw_print_plan(this);
+        acquire();
+        try {
+            backend.print(address);
+        } finally {
+            release();
+        }
     }
 
     /**
@@ -135,17 +382,40 @@ public abstract class Plan<T> {
      * @return cost of this plan
      */
     public final double cost() {
-        ensureNotDestroyed();
-        return jfftw_cost(this);
+        acquire();
+        try {
+            return backend.cost(address);
+        } finally {
+            release();
+        }
     }
 
     /**
      * Destroys the plan pointed to by this object's address field.
+     * <p>
+     * If other threads are executing this plan, the native plan is destroyed when the last of them returns.
      */
     public final void destroy() {
-        ensureNotDestroyed();
-        jfftw_destroy_plan(this);
-        destroyed = true;
+        if (!handle.close())
+            throw new NullPointerException("plan is destroyed");
+        cleanable.clean();
+        closed();
+    }
+
+    /**
+     * Destroys this plan unless it is already destroyed.
+     */
+    @Override
+    public final void close() {
+        cleanable.clean();
+        closed();
+    }
+
+    /**
+     * Called by {@link #close()} and {@link #destroy()}, possibly more than once, to free what a
+     * subclass holds for executions. Executions still running may complete afterwards.
+     */
+    protected void closed() {
     }
 
     /**
@@ -154,16 +424,52 @@ public abstract class Plan<T> {
      * @return estimated cost of this plan
      */
     public final double estimateCost() {
-        ensureNotDestroyed();
-        return jfftw_estimate_cost(this);
+        acquire();
+        try {
+            return backend.estimateCost(address);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Counts the floating point operations of one execution with fftw_flops, fused multiply-adds counting twice.
+     *
+     * @return floating point operations per execution
+     */
+    public final double flops() {
+        acquire();
+        try {
+            return backend.flops(address);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * @return shape this plan's metrics are kept under
+     */
+    public final String getShape() {
+        return shape();
+    }
+
+    /**
+     * @return metrics of this plan's shape, or null if metrics are off
+     */
+    public final ShapeMetrics getMetrics() {
+        return metrics;
     }
 
     /**
      * Executes this plan using the input and output arrays associated with this plan.
      */
     public final void execute() {
-        ensureNotDestroyed();
-        jfftw_execute(this);
+        long start = acquireExecution();
+        try {
+            backend.execute(address);
+        } finally {
+            releaseExecution(start);
+        }
     }
 
     /**
@@ -213,6 +519,20 @@ public abstract class Plan<T> {
         return complexity;
     }
 
+    /**
+     * @return copy of the per-dimension kinds of a real to real plan, or null for other complexities
+     */
+    public final Kind[] getKinds() {
+        return kinds == null ? null : Arrays.copyOf(kinds, kinds.length);
+    }
+
+    /**
+     * @return the floating point precision of this plan
+     */
+    public final Precision getPrecision() {
+        return precision;
+    }
+
     /**
      * @return the address of this plan
      */
@@ -252,14 +572,20 @@ public abstract class Plan<T> {
      * @return string representation of this plan
      */
     public final String toString() {
-        return destroyed ? "destroyed plan" : jfftw_sprint_plan(this);
+        if (!handle.acquire())
+            return "destroyed plan";
+        try {
+            return backend.sprint(address);
+        } finally {
+            release();
+        }
     }
 
     /**
      * @return true if the plan is destroyed and therefore not suitable for execution
      */
     public final boolean isDestroyed() {
-        return destroyed;
+        return handle.isClosed();
     }
 
     /**
@@ -269,4 +595,18 @@ public abstract class Plan<T> {
         return requiresAligned;
     }
 
+    /**
+     * @return number of native plans created and not yet destroyed
+     */
+    public static long getLivePlans() {
+        return PlanHandle.live.sum();
+    }
+
+    /**
+     * @return bytes of array data transformed by all live plans, a proxy for the native memory they hold
+     */
+    public static long getLivePlanBytes() {
+        return PlanHandle.liveBytes.sum();
+    }
+
 }
@@ -0,0 +1,351 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.Dimensions;
+import jfftw.data.DirectAllocator;
+import jfftw.data.PaddedLayout;
+import jfftw.enums.Complexity;
+import jfftw.exceptions.UnsupportedComplexityException;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, size bounded cache of shared DirectPlans.
+ * <p>
+ * Plans are created on buffers owned by the cache, so planning never touches caller data,
+ * and are meant to be executed with the new array execute methods, which FFTW allows from
+ * any number of threads at once. A plan is handed out as a {@link Lease}, which keeps it alive
+ * until the lease is closed. When the cache grows past its capacity, the least recently used
+ * plan is removed, and destroyed once its last lease is closed, so an eviction caused by one
+ * thread never destroys a plan another thread is about to execute. Entries are kept in access
+ * order, so finding the least recently used plan does not scan the cache.
+ */
+public class PlanCache {
+
+    protected final int capacity;
+    // access ordered, least recently used first; guarded by itself
+    protected final LinkedHashMap<Key, Entry> plans = new LinkedHashMap<>(16, 0.75f, true);
+    protected final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder(), planningNanos = new LongAdder();
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param capacity maximum number of plans held by this cache
+     */
+    public PlanCache(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets or creates a plan which may execute the buffers supplied.
+     *
+     * @param in    direct DoubleBuffer which will be used as input
+     * @param out   direct DoubleBuffer which will be used as output
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  transform dimensions
+     * @return lease of the shared plan, to be closed when the caller is done with it
+     */
+    public Lease lease(DoubleBuffer in, DoubleBuffer out, int sign, Complexity cplx, int flags, Dimensions dims) {
+        return lease(new Key(dims, cplx, sign, flags, Alignment.of(in), Alignment.of(out), in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE));
+    }
+
+    /**
+     * Gets or creates the plan described by a key.
+     *
+     * @param key plan description
+     * @return lease of the shared plan, to be closed when the caller is done with it
+     */
+    public Lease lease(Key key) {
+        Entry e;
+        boolean created = false;
+        synchronized (plans) {
+            e = plans.get(key);
+            if (e == null) {
+                e = new Entry(key);
+                plans.put(key, e);
+                created = true;
+            }
+            e.leases++;
+        }
+        if (created) {
+            misses.increment();
+            e.task.run();
+            evict();
+        } else {
+            hits.increment();
+        }
+        try {
+            return new Lease(e, e.task.get());
+        } catch (InterruptedException ex) {
+            release(e);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for plan", ex);
+        } catch (ExecutionException ex) {
+            synchronized (plans) {
+                plans.remove(key, e);
+            }
+            release(e);
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Executes the buffers with a cached plan, which stays alive until the execution returns.
+     *
+     * @param in    direct DoubleBuffer with complex or real data for input
+     * @param out   direct DoubleBuffer with complex or real data for output
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  transform dimensions
+     */
+    public void execute(DoubleBuffer in, DoubleBuffer out, int sign, Complexity cplx, int flags, Dimensions dims) {
+        try (Lease l = lease(in, out, sign, cplx, flags, dims)) {
+            l.get().execute(in, out);
+        }
+    }
+
+    /**
+     * Removes least recently used plans until this cache is within its capacity. Plans still
+     * being planned are skipped, and plans still leased are destroyed when their last lease closes.
+     */
+    protected void evict() {
+        List<Entry> retired = new ArrayList<>();
+        synchronized (plans) {
+            Iterator<Entry> it = plans.values().iterator();
+            while (plans.size() > capacity && it.hasNext()) {
+                Entry e = it.next();
+                if (!e.task.isDone())
+                    continue;
+                it.remove();
+                evictions.increment();
+                e.removed = true;
+                if (e.leases == 0)
+                    retired.add(e);
+            }
+        }
+        for (Entry e : retired)
+            destroy(e);
+    }
+
+    /**
+     * Removes every plan in this cache, destroying each once its last lease is closed.
+     */
+    public void clear() {
+        List<Entry> retired = new ArrayList<>();
+        synchronized (plans) {
+            for (Entry e : plans.values()) {
+                e.removed = true;
+                if (e.leases == 0)
+                    retired.add(e);
+            }
+            plans.clear();
+        }
+        for (Entry e : retired)
+            destroy(e);
+    }
+
+    private void release(Entry e) {
+        boolean retire;
+        synchronized (plans) {
+            retire = --e.leases == 0 && e.removed;
+        }
+        if (retire)
+            destroy(e);
+    }
+
+    private static void destroy(Entry e) {
+        try {
+            e.task.get().close();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // nothing was planned
+        }
+    }
+
+    /**
+     * @return number of plans in this cache
+     */
+    public int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+
+    /**
+     * @return maximum number of plans held by this cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of requests served by an existing plan
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of requests which created a plan
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of plans removed to stay within capacity
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return total time spent creating plans in nanoseconds
+     */
+    public long getPlanningNanos() {
+        return planningNanos.sum();
+    }
+
+    /**
+     * A cached plan kept alive for one user. A lease is meant to be used by one thread and closed
+     * in a finally block or try-with-resources; the plan must not be used after closing.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Entry entry;
+        private final DirectPlan plan;
+        private boolean closed = false;
+
+        private Lease(Entry entry, DirectPlan plan) {
+            this.entry = entry;
+            this.plan = plan;
+        }
+
+        /**
+         * @return the leased plan
+         */
+        public DirectPlan get() {
+            if (closed)
+                throw new IllegalStateException("lease is closed");
+            return plan;
+        }
+
+        /**
+         * Releases the plan, destroying it if it was evicted and this was its last lease.
+         * Closing more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+
+    private final class Entry {
+
+        final FutureTask<DirectPlan> task;
+        // guarded by plans
+        int leases = 0;
+        boolean removed = false;
+
+        Entry(Key k) {
+            task = new FutureTask<>(() -> {
+                long start = System.nanoTime();
+                try {
+                    return k.create();
+                } finally {
+                    planningNanos.add(System.nanoTime() - start);
+                }
+            });
+        }
+    }
+
+    /**
+     * Description of a plan held by a PlanCache.
+     */
+    public static final class Key {
+
+        private final Dimensions dimensions;
+        private final Complexity complexity;
+        private final int sign, flags;
+        private final Alignment iAlign, oAlign;
+        private final Placement placement;
+
+        /**
+         * @param dims      transform dimensions
+         * @param cplx      transform complexity
+         * @param sign      transform sign (-1 or 1)
+         * @param flags     FFTW flags
+         * @param in        alignment of the input buffers
+         * @param out       alignment of the output buffers
+         * @param placement placement of the transform
+         */
+        public Key(Dimensions dims, Complexity cplx, int sign, int flags, Alignment in, Alignment out, Placement placement) {
+            if (dims == null || dims.size() == 0)
+                throw new IllegalArgumentException("cached plans require dimensions");
+            if (cplx == Complexity.REAL_TO_REAL)
+                throw new UnsupportedComplexityException(cplx);
+            dimensions = new Dimensions(dims);
+            complexity = cplx;
+            this.sign = sign;
+            this.flags = flags;
+            iAlign = new Alignment(in);
+            oAlign = new Alignment(placement == Placement.IN_PLACE ? in : out);
+            this.placement = placement;
+        }
+
+        DirectPlan create() {
+            int n = Math.toIntExact(dimensions.product());
+            int is = complexity == Complexity.REAL_TO_COMPLEX ? n : 2 * n;
+            int os = complexity == Complexity.COMPLEX_TO_REAL ? n : 2 * n;
+            if (placement == Placement.IN_PLACE && complexity != Complexity.COMPLEX_TO_COMPLEX)
+                is = new PaddedLayout(dimensions).size();
+            DoubleBuffer in = DirectAllocator.allocateAligned(is, iAlign);
+            DoubleBuffer out = placement == Placement.IN_PLACE ? in : DirectAllocator.allocateAligned(os, oAlign);
+            return new DirectPlan(in, out, sign, complexity, flags, dimensions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return sign == key.sign && flags == key.flags && dimensions.equals(key.dimensions)
+                    && complexity == key.complexity && iAlign.equals(key.iAlign) && oAlign.equals(key.oAlign)
+                    && placement == key.placement;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimensions, complexity, sign, flags, iAlign, oAlign, placement);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder dims = new StringBuilder();
+            for (int n : dimensions.get())
+                dims.append(dims.length() == 0 ? "" : "x").append(n);
+            return dims + " " + complexity + (complexity == Complexity.COMPLEX_TO_COMPLEX ? " " + sign : "")
+                    + " " + placement + " " + iAlign.get() + "/" + oAlign.get();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package jfftw.planning;
+
+import jfftw.Backend;
+import jfftw.Destroyer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Owns the native plan behind a Plan and destroys it exactly once.
+ * <p>
+ * The state counts executions in progress, with the sign bit marking the plan as closed.
+ * Executing costs one compare-and-set on entry and one decrement on exit. Closing marks the
+ * plan and destroys it at once if nothing is executing; otherwise the last execution to leave
+ * destroys it. The native plan is handed to the {@link Destroyer}, so neither an execution nor
+ * the Cleaner waits for the planner lock. This object must not reference its Plan, since it is
+ * the Plan's cleaning action.
+ */
+final class PlanHandle implements Runnable {
+
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    static final LongAdder live = new LongAdder(), liveBytes = new LongAdder();
+
+    private final AtomicInteger state = new AtomicInteger();
+    private final long address, bytes;
+    private final Backend backend;
+    private final ShapeMetrics metrics;
+
+    PlanHandle(long address, Backend backend, long bytes, ShapeMetrics metrics) {
+        this.address = address;
+        this.backend = backend;
+        this.bytes = bytes;
+        this.metrics = metrics;
+        live.increment();
+        liveBytes.add(bytes);
+    }
+
+    /**
+     * @return false if the plan is closed, otherwise true and the plan stays alive until {@link #release()}
+     */
+    boolean acquire() {
+        for (;;) {
+            int s = state.get();
+            if (s < 0)
+                return false;
+            if (state.compareAndSet(s, s + 1))
+                return true;
+        }
+    }
+
+    void release() {
+        if (state.decrementAndGet() == CLOSED)
+            free();
+    }
+
+    /**
+     * @return true if this call closed the plan, false if it was already closed
+     */
+    boolean close() {
+        for (;;) {
+            int s = state.get();
+            if (s < 0)
+                return false;
+            if (state.compareAndSet(s, s | CLOSED)) {
+                if (s == 0)
+                    free();
+                return true;
+            }
+        }
+    }
+
+    boolean isClosed() {
+        return state.get() < 0;
+    }
+
+    @Override
+    public void run() {
+        close();
+    }
+
+    private void free() {
+        Destroyer.destroy(this::destroy);
+    }
+
+    private void destroy() {
+        backend.destroy(address);
+        live.decrement();
+        liveBytes.add(-bytes);
+        if (metrics != null)
+            metrics.destroyed();
+    }
+}
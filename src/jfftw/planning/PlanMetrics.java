@@ -0,0 +1,80 @@
+package jfftw.planning;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the metrics of every plan shape created by this process.
+ * <p>
+ * Metrics are on unless the jfftw.metrics property is false. Each execution then costs two
+ * clock reads and three updates of striped counters, see {@link LatencyHistogram}, so threads
+ * executing plans of one shape at once do not contend. Each shape is registered as a platform MBean unless
+ * jfftw.metrics.jmx is false. Planning emits a jfftw.Planning JFR event, and executions slower
+ * than jfftw.metrics.slow nanoseconds, one millisecond by default, emit jfftw.SlowExecute.
+ */
+public final class PlanMetrics {
+
+    public static final String ENABLED_PROPERTY = "jfftw.metrics", JMX_PROPERTY = "jfftw.metrics.jmx", SLOW_PROPERTY = "jfftw.metrics.slow";
+
+    static final boolean enabled = !"false".equals(System.getProperty(ENABLED_PROPERTY));
+    static final boolean jmx = !"false".equals(System.getProperty(JMX_PROPERTY));
+    static final long slowNanos = Long.getLong(SLOW_PROPERTY, 1_000_000L);
+
+    private static final ConcurrentHashMap<String, ShapeMetrics> shapes = new ConcurrentHashMap<>();
+
+    private PlanMetrics() {}
+
+    /**
+     * @param shape shape description
+     * @return metrics of the shape, registered on first use, or null if metrics are off
+     */
+    static ShapeMetrics of(String shape) {
+        if (!enabled)
+            return null;
+        ShapeMetrics m = shapes.get(shape);
+        if (m != null)
+            return m;
+        ShapeMetrics created = new ShapeMetrics(shape);
+        m = shapes.putIfAbsent(shape, created);
+        if (m != null)
+            return m;
+        if (jmx) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(created, name(shape));
+            } catch (JMException | RuntimeException e) {
+                // metrics stay available through shapes() without JMX
+            }
+        }
+        return created;
+    }
+
+    /**
+     * @return metrics of every shape seen so far
+     */
+    public static Collection<ShapeMetrics> shapes() {
+        return Collections.unmodifiableCollection(shapes.values());
+    }
+
+    /**
+     * @param shape shape description, as returned by {@link Plan#getShape()}
+     * @return metrics of the shape, or null if no plan of the shape was created
+     */
+    public static ShapeMetrics get(String shape) {
+        return shapes.get(shape);
+    }
+
+    /**
+     * @return true if plans record metrics
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    private static ObjectName name(String shape) throws JMException {
+        return new ObjectName("jfftw:type=PlanShape,name=" + ObjectName.quote(shape));
+    }
+}
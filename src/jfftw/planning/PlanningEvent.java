@@ -0,0 +1,24 @@
+package jfftw.planning;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning the creation of one native plan, excluding the wait for the planner lock.
+ */
+@Name("jfftw.Planning")
+@Label("FFTW Planning")
+@Category("jfftw")
+final class PlanningEvent extends Event {
+
+    @Label("Shape")
+    String shape;
+
+    @Label("Flags")
+    int flags;
+
+    @Label("Estimated Cost")
+    double estimateCost;
+}
@@ -0,0 +1,65 @@
+package jfftw.planning;
+
+import jfftw.Interface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Plans a list of shapes in the background, so that later plans of those shapes are created
+ * quickly from wisdom.
+ * <p>
+ * Shapes are planned one at a time on a daemon thread, each on buffers of its own, under a
+ * planning time limit which shares the remaining budget among the remaining shapes. The planner
+ * lock is held for one shape at a time, so other threads can still plan in between, and
+ * executions never wait for it. The plans themselves are destroyed; their wisdom remains and can
+ * be exported with {@link Wisdom}.
+ */
+public final class PrePlanner {
+
+    private PrePlanner() {}
+
+    /**
+     * Starts planning shapes in the background.
+     *
+     * @param shapes shapes to plan, in order of priority
+     * @param budget total planning time in seconds
+     * @return future completed with the number of shapes planned; cancelling it stops after the current shape
+     */
+    public static CompletableFuture<Integer> start(List<PlanCache.Key> shapes, double budget) {
+        List<PlanCache.Key> todo = new ArrayList<>(shapes);
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        Thread t = new Thread(() -> {
+            try {
+                result.complete(plan(todo, budget, result));
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        }, "jfftw-preplanner");
+        t.setDaemon(true);
+        t.start();
+        return result;
+    }
+
+    private static int plan(List<PlanCache.Key> shapes, double budget, CompletableFuture<Integer> result) {
+        long deadline = System.nanoTime() + (long) (budget * 1e9);
+        int planned = 0;
+        for (int i = 0; i < shapes.size() && !result.isDone(); i++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                break;
+            synchronized (Interface.PLANNER) {
+                double previous = Interface.getTimelimit();
+                Interface.setTimelimit(remaining / 1e9 / (shapes.size() - i));
+                try {
+                    shapes.get(i).create().close();
+                } finally {
+                    Interface.setTimelimit(previous);
+                }
+            }
+            planned++;
+        }
+        return planned;
+    }
+}
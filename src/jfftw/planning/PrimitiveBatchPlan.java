@@ -0,0 +1,84 @@
+package jfftw.planning;
+
+import jfftw.data.Alignment;
+import jfftw.data.Batch;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+import jfftw.exceptions.UnsupportedComplexityException;
+
+public final class PrimitiveBatchPlan extends BatchPlan<double[]> {
+
+    private static native void jfftw_execute_dft(long p, double[] ci, double[] co);
+    private static native void jfftw_execute_dft_c2r(long p, double[] ci, double[] ro);
+    private static native void jfftw_execute_dft_r2c(long p, double[] ri, double[] co);
+    private static native long jfftw_plan_many_dft(int rank, int[] n, int howmany, double[] ci, int istride, int idist, double[] co, int ostride, int odist, int sign, int flags);
+    private static native long jfftw_plan_many_dft_c2r(int rank, int[] n, int howmany, double[] ci, int istride, int idist, double[] ro, int ostride, int odist, int flags);
+    private static native long jfftw_plan_many_dft_r2c(int rank, int[] n, int howmany, double[] ri, int istride, int idist, double[] co, int ostride, int odist, int flags);
+
+    /**
+     * Constructs a new batched plan using primitive double arrays.
+     *
+     * @param in    array holding every input transform
+     * @param out   array holding every output transform
+     * @param sign  transform sign (-1 or 1)
+     * @param cplx  transform complexity
+     * @param flags FFTW flags
+     * @param dims  dimensions of one transform
+     * @param batch layout of the transforms within in and out
+     */
+    public PrimitiveBatchPlan(double[] in, double[] out, int sign, Complexity cplx, int flags, Dimensions dims, Batch batch) {
+        super(
+                in,
+                out,
+                in.length,
+                out.length,
+                sign,
+                cplx,
+                flags,
+                dims,
+                in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE,
+                Alignment.of(in),
+                Alignment.of(out),
+                batch
+        );
+    }
+
+    /**
+     * Executes a plan using new arrays
+     *
+     * @param in    new array for input
+     * @param out   new array for output
+     */
+    public void execute(double[] in, double[] out) {
+        ensureNotDestroyed();
+        ensureSizes(in.length, out.length);
+        ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
+        if(requiresAligned)
+            ensureAlignment(Alignment.of(in), Alignment.of(out));
+        long start = acquireExecution();
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: jfftw_execute_dft(address, in, out); break;
+                case COMPLEX_TO_REAL: jfftw_execute_dft_c2r(address, in, out); break;
+                case REAL_TO_COMPLEX: jfftw_execute_dft_r2c(address, in, out); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            releaseExecution(start);
+        }
+    }
+
+    protected long create() {
+        int[] dims = dimensions.get();
+        int howmany = batch.getHowMany();
+        int is = batch.getInputStride(), id = batch.getInputDistance();
+        int os = batch.getOutputStride(), od = batch.getOutputDistance();
+        switch (complexity) {
+            case COMPLEX_TO_COMPLEX: return jfftw_plan_many_dft(rank, dims, howmany, input, is, id, output, os, od, sign, flags);
+            case COMPLEX_TO_REAL: return jfftw_plan_many_dft_c2r(rank, dims, howmany, input, is, id, output, os, od, flags);
+            case REAL_TO_COMPLEX: return jfftw_plan_many_dft_r2c(rank, dims, howmany, input, is, id, output, os, od, flags);
+            default: throw new UnsupportedComplexityException(complexity);
+        }
+    }
+
+}
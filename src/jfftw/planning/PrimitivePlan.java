@@ -2,26 +2,66 @@ package jfftw.planning;
 
 import jfftw.data.Alignment;
 import jfftw.data.Dimensions;
+import jfftw.data.NativeBuffer;
+import jfftw.enums.ArrayStrategy;
 import jfftw.enums.Complexity;
+import jfftw.enums.Kind;
+import jfftw.enums.Precision;
 import jfftw.exceptions.UnsupportedComplexityException;
 
+import java.nio.DoubleBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A plan executing on Java heap arrays.
+ * <p>
+ * New-array executions either pin both arrays as critical regions for the duration of the
+ * transform, or copy them to and from aligned native scratch buffers so that the garbage
+ * collector is never held up by a long transform. By default arrays larger than the copy
+ * threshold are copied, see {@link ArrayStrategy}. The threshold defaults to the
+ * jfftw.critical.limit property, or 131072 doubles. Up to one pair of scratch buffers per
+ * processor is kept for reuse and freed when the plan is closed.
+ */
 public final class PrimitivePlan extends Plan<double[]> {
 
-    private static native void jfftw_execute_dft(PrimitivePlan p, double[] ci, double[] co);
-    private static native void jfftw_execute_dft_c2r(PrimitivePlan p, double[] ci, double[] ro);
-    private static native void jfftw_execute_dft_r2c(PrimitivePlan p, double[] ri, double[] co);
-    private static synchronized native long jfftw_plan_dft(int rank, int[] n, double[] ci, double[] co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_1d(int n, double[] ci, double[] co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_2d(int n0, int n1, double[] ci, double[] co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_3d(int n0, int n1, int n2, double[] ci, double[] co, int sign, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r(int rank, int[] n, double[] ci, double[] ro, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r_1d(int n, double[] ci, double[] ro, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r_2d(int n0, int n1, double[] ci, double[] ro, int flags);
-    private static synchronized native long jfftw_plan_dft_c2r_3d(int n0, int n1, int n2, double[] ci, double[] ro, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c(int rank, int[] n, double[] ri, double[] co, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c_1d(int n, double[] ri, double[] co, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c_2d(int n0, int n1, double[] ri, double[] co, int flags);
-    private static synchronized native long jfftw_plan_dft_r2c_3d(int n0, int n1, int n2, double[] ri, double[] co, int flags);
+    /**
+     * Property holding the default copy threshold in doubles.
+     */
+    public static final String COPY_THRESHOLD_PROPERTY = "jfftw.critical.limit";
+
+    private static final int defaultThreshold = Integer.getInteger(COPY_THRESHOLD_PROPERTY, 1 << 17);
+    private static final int scratchLimit = Runtime.getRuntime().availableProcessors();
+
+    // guarded by itself
+    private final ArrayDeque<Scratch> scratch = new ArrayDeque<>();
+    private boolean scratchClosed = false;
+    private final LongAdder criticalExecutions = new LongAdder(), copyExecutions = new LongAdder();
+    private final LongAdder criticalNanos = new LongAdder(), copyNanos = new LongAdder(), scratchNanos = new LongAdder();
+    private volatile ArrayStrategy strategy = ArrayStrategy.AUTO;
+    private volatile int copyThreshold = defaultThreshold;
+
+    private static native boolean jfftw_execute_dft(long p, double[] ci, double[] co, int ia, int oa);
+    private static native boolean jfftw_execute_dft_c2r(long p, double[] ci, double[] ro, int ia, int oa);
+    private static native boolean jfftw_execute_dft_r2c(long p, double[] ri, double[] co, int ia, int oa);
+    private static native boolean jfftw_execute_r2r(long p, double[] ri, double[] ro, int ia, int oa);
+    private static native long jfftw_plan_dft(int rank, int[] n, double[] ci, double[] co, int sign, int flags);
+    private static native long jfftw_plan_dft_1d(int n, double[] ci, double[] co, int sign, int flags);
+    private static native long jfftw_plan_dft_2d(int n0, int n1, double[] ci, double[] co, int sign, int flags);
+    private static native long jfftw_plan_dft_3d(int n0, int n1, int n2, double[] ci, double[] co, int sign, int flags);
+    private static native long jfftw_plan_dft_c2r(int rank, int[] n, double[] ci, double[] ro, int flags);
+    private static native long jfftw_plan_dft_c2r_1d(int n, double[] ci, double[] ro, int flags);
+    private static native long jfftw_plan_dft_c2r_2d(int n0, int n1, double[] ci, double[] ro, int flags);
+    private static native long jfftw_plan_dft_c2r_3d(int n0, int n1, int n2, double[] ci, double[] ro, int flags);
+    private static native long jfftw_plan_dft_r2c(int rank, int[] n, double[] ri, double[] co, int flags);
+    private static native long jfftw_plan_dft_r2c_1d(int n, double[] ri, double[] co, int flags);
+    private static native long jfftw_plan_dft_r2c_2d(int n0, int n1, double[] ri, double[] co, int flags);
+    private static native long jfftw_plan_dft_r2c_3d(int n0, int n1, int n2, double[] ri, double[] co, int flags);
+    private static native long jfftw_plan_r2r(int rank, int[] n, double[] ri, double[] ro, int[] kinds, int flags);
+    private static native long jfftw_plan_r2r_1d(int n, double[] ri, double[] ro, int kind, int flags);
+    private static native long jfftw_plan_r2r_2d(int n0, int n1, double[] ri, double[] ro, int kind0, int kind1, int flags);
+    private static native long jfftw_plan_r2r_3d(int n0, int n1, int n2, double[] ri, double[] ro, int kind0, int kind1, int kind2, int flags);
 
     /**
      * Constructs a new plan using primitive double arrays.
@@ -49,6 +89,34 @@ public final class PrimitivePlan extends Plan<double[]> {
         );
     }
 
+    /**
+     * Constructs a new real to real plan using primitive double arrays.
+     *
+     * @param in    array with real data for input
+     * @param out   array with real data for output
+     * @param kinds transform kind of each dimension
+     * @param flags FFTW flags
+     * @param dims  nullable dimensions
+     */
+    public PrimitivePlan(double[] in, double[] out, Kind[] kinds, int flags, Dimensions dims) {
+        super(
+                in,
+                out,
+                in.length,
+                out.length,
+                0,
+                Complexity.REAL_TO_REAL,
+                flags,
+                dims,
+                in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE,
+                Alignment.of(in),
+                Alignment.of(out),
+                null,
+                Precision.DOUBLE,
+                kinds
+        );
+    }
+
     /**
      * Executes a plan using new arrays
      *
@@ -59,16 +127,183 @@ public final class PrimitivePlan extends Plan<double[]> {
         ensureNotDestroyed();
         ensureSizes(in.length, out.length);
         ensurePlacement(in == out ? Placement.IN_PLACE : Placement.OUT_OF_PLACE);
-        if(requiresAligned)
-            ensureAlignment(Alignment.of(in), Alignment.of(out));
-        switch (complexity) {
-            case COMPLEX_TO_COMPLEX: jfftw_execute_dft(this, in, out); break;
-            case COMPLEX_TO_REAL: jfftw_execute_dft_c2r(this, in, out); break;
-            case REAL_TO_COMPLEX: jfftw_execute_dft_r2c(this, in, out); break;
-            default: throw new UnsupportedComplexityException(complexity);
+        if (copies(in == out ? in.length : in.length + out.length))
+            executeCopy(in, out);
+        else
+            executeCritical(in, out);
+    }
+
+    private boolean copies(int doubles) {
+        switch (strategy) {
+            case CRITICAL: return false;
+            case COPY: return true;
+            default: return doubles > copyThreshold;
+        }
+    }
+
+    /**
+     * Pins both arrays for the transform. The native call checks their alignment while they are
+     * pinned, so the arrays are pinned once per execution.
+     */
+    private void executeCritical(double[] in, double[] out) {
+        int ia = requiresAligned ? iAlign.get() : -1, oa = requiresAligned ? oAlign.get() : -1;
+        boolean aligned;
+        long start = acquireExecution(true);
+        try {
+            switch (complexity) {
+                case COMPLEX_TO_COMPLEX: aligned = jfftw_execute_dft(address, in, out, ia, oa); break;
+                case COMPLEX_TO_REAL: aligned = jfftw_execute_dft_c2r(address, in, out, ia, oa); break;
+                case REAL_TO_COMPLEX: aligned = jfftw_execute_dft_r2c(address, in, out, ia, oa); break;
+                case REAL_TO_REAL: aligned = jfftw_execute_r2r(address, in, out, ia, oa); break;
+                default: throw new UnsupportedComplexityException(complexity);
+            }
+        } finally {
+            criticalNanos.add(releaseExecution(start, true) - start);
+        }
+        if (!aligned)
+            throw new IllegalArgumentException("new array alignment not equal to plan alignment");
+        criticalExecutions.increment();
+    }
+
+    /**
+     * Copies the input to scratch buffers with the plan's alignments, transforms them and copies
+     * the output back. The alignment of the arrays themselves does not matter.
+     */
+    private void executeCopy(double[] in, double[] out) {
+        Scratch s;
+        synchronized (scratch) {
+            s = scratch.poll();
+        }
+        if (s == null)
+            s = new Scratch();
+        try {
+            long start = System.nanoTime();
+            s.input.put(0, in, 0, in.length);
+            long copied = acquireExecution(true), executed;
+            try {
+                switch (complexity) {
+                    case COMPLEX_TO_COMPLEX: Registration.jfftw_execute_dft(address, s.iAddress, s.oAddress); break;
+                    case COMPLEX_TO_REAL: Registration.jfftw_execute_dft_c2r(address, s.iAddress, s.oAddress); break;
+                    case REAL_TO_COMPLEX: Registration.jfftw_execute_dft_r2c(address, s.iAddress, s.oAddress); break;
+                    case REAL_TO_REAL: Registration.jfftw_execute_r2r(address, s.iAddress, s.oAddress); break;
+                    default: throw new UnsupportedComplexityException(complexity);
+                }
+            } finally {
+                executed = releaseExecution(copied, true);
+            }
+            s.output.get(0, out, 0, out.length);
+            copyNanos.add(copied - start + System.nanoTime() - executed);
+            scratchNanos.add(executed - copied);
+            copyExecutions.increment();
+        } finally {
+            synchronized (scratch) {
+                if (!scratchClosed && scratch.size() < scratchLimit) {
+                    scratch.push(s);
+                    s = null;
+                }
+            }
+            if (s != null)
+                s.close();
+        }
+    }
+
+    /**
+     * Frees the pooled scratch buffers; buffers in use are freed when their execution returns.
+     */
+    @Override
+    protected void closed() {
+        synchronized (scratch) {
+            scratchClosed = true;
+            for (Scratch s : scratch)
+                s.close();
+            scratch.clear();
         }
     }
 
+    /**
+     * Executes a plan using new arrays on a pool thread, so that virtual threads are not pinned
+     * to their carrier during the transform. Waits while the pool's queue is full.
+     *
+     * @param in    new array for input
+     * @param out   new array for output
+     * @return future completed when the output is written
+     */
+    public CompletableFuture<Void> executeAsync(double[] in, double[] out) {
+        return AsyncExecutor.submit(() -> execute(in, out));
+    }
+
+    /**
+     * @return strategy of new-array executions
+     */
+    public ArrayStrategy getArrayStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Sets how new-array executions reach the arrays.
+     *
+     * @param strategy strategy of subsequent new-array executions
+     */
+    public void setArrayStrategy(ArrayStrategy strategy) {
+        if (strategy == null)
+            throw new IllegalArgumentException("strategy must not be null");
+        this.strategy = strategy;
+    }
+
+    /**
+     * @return number of doubles above which {@link ArrayStrategy#AUTO} copies instead of pinning
+     */
+    public int getCopyThreshold() {
+        return copyThreshold;
+    }
+
+    /**
+     * Sets the copy threshold of {@link ArrayStrategy#AUTO}, counted over the input and output
+     * arrays together.
+     *
+     * @param doubles number of doubles above which executions copy
+     */
+    public void setCopyThreshold(int doubles) {
+        if (doubles < 0)
+            throw new IllegalArgumentException("copy threshold must not be negative");
+        copyThreshold = doubles;
+    }
+
+    /**
+     * @return number of new-array executions which pinned the arrays
+     */
+    public long getCriticalExecutions() {
+        return criticalExecutions.sum();
+    }
+
+    /**
+     * @return number of new-array executions which copied through scratch buffers
+     */
+    public long getCopyExecutions() {
+        return copyExecutions.sum();
+    }
+
+    /**
+     * @return total time in nanoseconds spent in native calls holding the arrays pinned
+     */
+    public long getCriticalNanos() {
+        return criticalNanos.sum();
+    }
+
+    /**
+     * @return total time in nanoseconds spent copying arrays to and from scratch buffers
+     */
+    public long getCopyNanos() {
+        return copyNanos.sum();
+    }
+
+    /**
+     * @return total time in nanoseconds spent transforming scratch buffers
+     */
+    public long getScratchNanos() {
+        return scratchNanos.sum();
+    }
+
     protected long create()  {
         int[] dims = dimensions.get();
         switch (complexity) {
@@ -90,8 +325,30 @@ public final class PrimitivePlan extends Plan<double[]> {
                 case 3: return jfftw_plan_dft_r2c_3d(dims[0], dims[1], dims[2], input, output, flags);
                 default: return jfftw_plan_dft_r2c(rank, dims, input, output, flags);
             }
+            case REAL_TO_REAL: switch (rank) {
+                case 1: return jfftw_plan_r2r_1d(dims[0], input, output, kinds[0].value, flags);
+                case 2: return jfftw_plan_r2r_2d(dims[0], dims[1], input, output, kinds[0].value, kinds[1].value, flags);
+                case 3: return jfftw_plan_r2r_3d(dims[0], dims[1], dims[2], input, output, kinds[0].value, kinds[1].value, kinds[2].value, flags);
+                default: return jfftw_plan_r2r(rank, dims, input, output, Kind.toFftwKinds(kinds), flags);
+            }
             default: throw new UnsupportedComplexityException(complexity);
         }
     }
 
+    /**
+     * Native buffers with the plan's alignments which one execution at a time copies through.
+     */
+    private final class Scratch {
+
+        final NativeBuffer iMem = NativeBuffer.allocateAligned(PrimitivePlan.this.input.length, iAlign);
+        final NativeBuffer oMem = placement == Placement.IN_PLACE ? iMem : NativeBuffer.allocateAligned(PrimitivePlan.this.output.length, oAlign);
+        final DoubleBuffer input = iMem.get(), output = oMem.get();
+        final long iAddress = Registration.jfftw_address_of(input), oAddress = Registration.jfftw_address_of(output);
+
+        void close() {
+            iMem.close();
+            oMem.close();
+        }
+    }
+
 }
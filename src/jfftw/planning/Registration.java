@@ -0,0 +1,81 @@
+package jfftw.planning;
+
+import jfftw.enums.Complexity;
+import jfftw.exceptions.UnsupportedComplexityException;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * A pair of direct buffers validated once against a plan.
+ * <p>
+ * The native addresses of both buffers are resolved when the registration is created,
+ * so executing a plan with a registration neither allocates nor takes any lock.
+ * A registration keeps its buffers reachable for as long as it is referenced.
+ */
+public final class Registration {
+
+    final Plan<DoubleBuffer> plan;
+    final DoubleBuffer input, output;
+    final long iAddress, oAddress;
+
+    static native long jfftw_address_of(DoubleBuffer buff);
+    static native void jfftw_execute_dft(long p, long ci, long co);
+    static native void jfftw_execute_dft_c2r(long p, long ci, long ro);
+    static native void jfftw_execute_dft_r2c(long p, long ri, long co);
+    static native void jfftw_execute_r2r(long p, long ri, long ro);
+
+    Registration(Plan<DoubleBuffer> p, DoubleBuffer in, DoubleBuffer out) {
+        plan = p;
+        input = in;
+        output = out;
+        iAddress = jfftw_address_of(in);
+        oAddress = jfftw_address_of(out);
+    }
+
+    /**
+     * Executes the registered plan on the registered buffers.
+     *
+     * @param c complexity of the registered plan
+     */
+    void execute(Complexity c) {
+        switch (c) {
+            case COMPLEX_TO_COMPLEX: jfftw_execute_dft(plan.address, iAddress, oAddress); break;
+            case COMPLEX_TO_REAL: jfftw_execute_dft_c2r(plan.address, iAddress, oAddress); break;
+            case REAL_TO_COMPLEX: jfftw_execute_dft_r2c(plan.address, iAddress, oAddress); break;
+            case REAL_TO_REAL: jfftw_execute_r2r(plan.address, iAddress, oAddress); break;
+            default: throw new UnsupportedComplexityException(c);
+        }
+    }
+
+    /**
+     * Checks that this registration was created by the plan supplied.
+     *
+     * @param p plan about to execute this registration
+     */
+    void ensurePlan(Plan<DoubleBuffer> p) {
+        if (p != plan)
+            throw new IllegalArgumentException("registration belongs to another plan");
+    }
+
+    /**
+     * @return the plan these buffers were registered with
+     */
+    public Plan<DoubleBuffer> getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return registered input
+     */
+    public DoubleBuffer getInput() {
+        return input;
+    }
+
+    /**
+     * @return registered output
+     */
+    public DoubleBuffer getOutput() {
+        return output;
+    }
+
+}
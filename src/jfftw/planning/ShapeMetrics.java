@@ -0,0 +1,144 @@
+package jfftw.planning;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Planning and execution metrics shared by every plan of one shape.
+ * <p>
+ * A shape combines precision, complexity, sign, dimensions, placement and batch size, so plans
+ * that differ only in their buffers or flags share metrics.
+ */
+public final class ShapeMetrics implements ShapeMetricsMXBean {
+
+    private final String shape;
+    private final LongAdder created = new LongAdder(), live = new LongAdder(), planningNanos = new LongAdder();
+    private final LatencyHistogram executions = new LatencyHistogram();
+    private volatile double cost, estimateCost, flops;
+
+    ShapeMetrics(String shape) {
+        this.shape = shape;
+    }
+
+    void planned(long nanos, double cost, double estimateCost, double flops) {
+        created.increment();
+        live.increment();
+        planningNanos.add(nanos);
+        this.cost = cost;
+        this.estimateCost = estimateCost;
+        this.flops = flops;
+    }
+
+    void destroyed() {
+        live.decrement();
+    }
+
+    void executed(long nanos) {
+        executions.record(nanos);
+        if (nanos >= PlanMetrics.slowNanos) {
+            SlowExecuteEvent e = new SlowExecuteEvent();
+            if (e.shouldCommit()) {
+                e.shape = shape;
+                e.nanos = nanos;
+                e.commit();
+            }
+        }
+    }
+
+    /**
+     * @return histogram of execution latencies
+     */
+    public LatencyHistogram getHistogram() {
+        return executions;
+    }
+
+    @Override
+    public String getShape() {
+        return shape;
+    }
+
+    @Override
+    public long getPlansCreated() {
+        return created.sum();
+    }
+
+    @Override
+    public long getPlansLive() {
+        return live.sum();
+    }
+
+    @Override
+    public long getPlanningNanos() {
+        return planningNanos.sum();
+    }
+
+    @Override
+    public long getExecutions() {
+        return executions.getCount();
+    }
+
+    @Override
+    public long getExecuteNanos() {
+        return executions.getTotal();
+    }
+
+    @Override
+    public double getMeanExecuteNanos() {
+        return executions.getMean();
+    }
+
+    @Override
+    public long getMedianExecuteNanos() {
+        return executions.getPercentile(50);
+    }
+
+    @Override
+    public long get99thPercentileExecuteNanos() {
+        return executions.getPercentile(99);
+    }
+
+    @Override
+    public long getMaxExecuteNanos() {
+        return executions.getMax();
+    }
+
+    @Override
+    public double getCost() {
+        return cost;
+    }
+
+    @Override
+    public double getEstimateCost() {
+        return estimateCost;
+    }
+
+    /**
+     * @return floating point operations of one execution as counted by fftw_flops, fused multiply-adds counting twice
+     */
+    @Override
+    public double getFlops() {
+        return flops;
+    }
+
+    /**
+     * @return achieved billions of floating point operations per second over every execution recorded
+     */
+    @Override
+    public double getGflops() {
+        long nanos = executions.getTotal();
+        return nanos == 0 ? 0 : flops * executions.getCount() / nanos;
+    }
+
+    /**
+     * Clears the planning time and execution histogram. Plan counts are kept.
+     */
+    @Override
+    public void reset() {
+        planningNanos.reset();
+        executions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return shape;
+    }
+}
@@ -0,0 +1,40 @@
+package jfftw.planning;
+
+/**
+ * Management interface of the metrics of one plan shape, registered as
+ * <code>jfftw:type=PlanShape,name="shape"</code>.
+ * <p>
+ * Cost, estimated cost and flops are those of the most recently created plan of the shape.
+ */
+public interface ShapeMetricsMXBean {
+
+    String getShape();
+
+    long getPlansCreated();
+
+    long getPlansLive();
+
+    long getPlanningNanos();
+
+    long getExecutions();
+
+    long getExecuteNanos();
+
+    double getMeanExecuteNanos();
+
+    long getMedianExecuteNanos();
+
+    long get99thPercentileExecuteNanos();
+
+    long getMaxExecuteNanos();
+
+    double getCost();
+
+    double getEstimateCost();
+
+    double getFlops();
+
+    double getGflops();
+
+    void reset();
+}
@@ -0,0 +1,25 @@
+package jfftw.planning;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event of an execution slower than the jfftw.metrics.slow threshold.
+ */
+@Name("jfftw.SlowExecute")
+@Label("Slow FFTW Execute")
+@Category("jfftw")
+@Description("Execution of a plan which took longer than the jfftw.metrics.slow threshold")
+final class SlowExecuteEvent extends Event {
+
+    @Label("Shape")
+    String shape;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanos;
+}
@@ -1,19 +1,23 @@
 package jfftw.planning;
 
+import jfftw.Interface;
+
 public class Wisdom {
 
-    protected static synchronized native boolean jfftw_export_wisdom_to_filename(String s);
-    protected static synchronized native String jfftw_export_wisdom_to_string();
-    protected static synchronized native void jfftw_forget_wisdom();
-    protected static synchronized native boolean jfftw_import_system_wisdom();
-    protected static synchronized native boolean jfftw_import_wisdom_from_filename(String s);
-    protected static synchronized native boolean jfftw_import_wisdom_from_string(String s);
+    protected static native boolean jfftw_export_wisdom_to_filename(String s);
+    protected static native String jfftw_export_wisdom_to_string();
+    protected static native void jfftw_forget_wisdom();
+    protected static native boolean jfftw_import_system_wisdom();
+    protected static native boolean jfftw_import_wisdom_from_filename(String s);
+    protected static native boolean jfftw_import_wisdom_from_string(String s);
 
     /**
      * Clears all currently stored wisdom.
      */
     public static void forgetWisdom() {
-        jfftw_forget_wisdom();
+        synchronized (Interface.PLANNER) {
+            jfftw_forget_wisdom();
+        }
     }
 
     /**
@@ -23,7 +27,9 @@ public class Wisdom {
      * @return true if wisdom export is successful, false otherwise
      */
     public static boolean exportToFilename(String s) {
-        return jfftw_export_wisdom_to_filename(s);
+        synchronized (Interface.PLANNER) {
+            return jfftw_export_wisdom_to_filename(s);
+        }
     }
 
     /**
@@ -32,7 +38,9 @@ public class Wisdom {
      * @return currently stored wisdom
      */
     public static String export() {
-        return jfftw_export_wisdom_to_string();
+        synchronized (Interface.PLANNER) {
+            return jfftw_export_wisdom_to_string();
+        }
     }
 
     /**
@@ -41,7 +49,9 @@ public class Wisdom {
      * @return true if wisdom import is successful, false otherwise
      */
     public static boolean importSystemWisdom() {
-        return jfftw_import_system_wisdom();
+        synchronized (Interface.PLANNER) {
+            return jfftw_import_system_wisdom();
+        }
     }
 
     /**
@@ -51,7 +61,9 @@ public class Wisdom {
      * @return true if wisdom import is successful, false otherwise
      */
     public static boolean importFromFilename(String s) {
-        return jfftw_import_wisdom_from_filename(s);
+        synchronized (Interface.PLANNER) {
+            return jfftw_import_wisdom_from_filename(s);
+        }
     }
 
     /**
@@ -61,7 +73,9 @@ public class Wisdom {
      * @return true if wisdom import is successful, false otherwise
      */
     public static boolean importFromString(String s) {
-        return jfftw_import_wisdom_from_string(s);
+        synchronized (Interface.PLANNER) {
+            return jfftw_import_wisdom_from_string(s);
+        }
     }
 
 }
@@ -0,0 +1,160 @@
+package jfftw.planning;
+
+import jfftw.Interface;
+import jfftw.data.Alignment;
+import jfftw.data.Dimensions;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command line tool which plans a catalog of shapes and exports the resulting wisdom.
+ * <p>
+ * Each catalog line describes one shape as whitespace separated fields, with <code>#</code>
+ * starting a comment:
+ * <pre>
+ * # dimensions  complexity          placement     in-align  out-align  [flags]
+ * 1024x1024     COMPLEX_TO_COMPLEX  OUT_OF_PLACE  0         0
+ * 4096          REAL_TO_COMPLEX     OUT_OF_PLACE  0         8          DESTROY_INPUT
+ * </pre>
+ * Complex to complex shapes are planned in both directions. Every shape is planned with the
+ * chosen rigor under a per-shape time limit, then executed repeatedly to measure its time per
+ * transform, and a report of plan cost and ns/op is printed. FFTW's planner is process-wide and
+ * measures by timing, so shapes are planned and measured one after another rather than in parallel.
+ * <p>
+ * Usage: <code>WisdomGenerator catalog output [-rigor PATIENT|EXHAUSTIVE] [-timelimit seconds]
+ * [-fftw library] [-jfftw library]</code>
+ */
+public final class WisdomGenerator {
+
+    private WisdomGenerator() {}
+
+    public static void main(String[] args) throws IOException {
+        // options come in pairs after the catalog and output
+        if (args.length < 2 || args.length % 2 != 0)
+            usage();
+        Flag rigor = Flag.PATIENT;
+        double timelimit = -1;
+        String fftw = "fftw3", jfftw = "jfftw";
+        for (int i = 2; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "-rigor": {
+                    String r = args[i + 1].toUpperCase(Locale.ROOT);
+                    if (r.equals("PATIENT"))
+                        rigor = Flag.PATIENT;
+                    else if (r.equals("EXHAUSTIVE"))
+                        rigor = Flag.EXHAUSTIVE;
+                    else
+                        usage();
+                } break;
+                case "-timelimit":
+                    try {
+                        timelimit = Double.parseDouble(args[i + 1]);
+                    } catch (NumberFormatException e) {
+                        usage();
+                    }
+                    break;
+                case "-fftw": fftw = args[i + 1]; break;
+                case "-jfftw": jfftw = args[i + 1]; break;
+                default: usage();
+            }
+        }
+        Interface.loadLibraries(fftw, jfftw);
+        List<PlanCache.Key> shapes = parse(Files.readAllLines(Path.of(args[0])), rigor);
+        report(shapes, timelimit, System.out);
+        if (!Wisdom.exportToFilename(args[1])) {
+            System.err.println("could not export wisdom to " + args[1]);
+            System.exit(1);
+        }
+    }
+
+    private static void usage() {
+        System.err.println("usage: WisdomGenerator catalog output [-rigor PATIENT|EXHAUSTIVE] [-timelimit seconds] [-fftw library] [-jfftw library]");
+        System.exit(2);
+    }
+
+    /**
+     * Parses a catalog.
+     *
+     * @param lines catalog lines
+     * @param rigor planning rigor added to the flags of every shape
+     * @return shapes, with complex to complex shapes once per direction
+     */
+    public static List<PlanCache.Key> parse(List<String> lines, Flag rigor) {
+        List<PlanCache.Key> shapes = new ArrayList<>();
+        for (String line : lines) {
+            int comment = line.indexOf('#');
+            String[] f = (comment < 0 ? line : line.substring(0, comment)).trim().split("\\s+");
+            if (f.length == 1 && f[0].isEmpty())
+                continue;
+            if (f.length < 5)
+                throw new IllegalArgumentException("catalog line needs dimensions, complexity, placement and alignments: " + line);
+            String[] d = f[0].split("x");
+            int[] n = new int[d.length];
+            for (int i = 0; i < d.length; i++)
+                n[i] = Integer.parseInt(d[i]);
+            Complexity cplx = Complexity.valueOf(f[1]);
+            Placement placement = Placement.valueOf(f[2]);
+            Alignment in = new Alignment(Integer.parseInt(f[3])), out = new Alignment(Integer.parseInt(f[4]));
+            int flags = rigor.value;
+            for (int i = 5; i < f.length; i++)
+                flags |= Flag.valueOf(f[i]).value;
+            shapes.add(new PlanCache.Key(new Dimensions(n), cplx, -1, flags, in, out, placement));
+            if (cplx == Complexity.COMPLEX_TO_COMPLEX)
+                shapes.add(new PlanCache.Key(new Dimensions(n), cplx, 1, flags, in, out, placement));
+        }
+        return shapes;
+    }
+
+    /**
+     * Plans and measures every shape, printing one report line per shape.
+     *
+     * @param shapes    shapes to plan
+     * @param timelimit planning time limit per shape in seconds, or -1 for none
+     * @param report    stream receiving the report
+     */
+    public static void report(List<PlanCache.Key> shapes, double timelimit, PrintStream report) {
+        report.printf("%-40s %14s %14s %12s%n", "shape", "plan seconds", "cost", "ns/op");
+        for (PlanCache.Key key : shapes) {
+            long start = System.nanoTime();
+            DirectPlan plan;
+            synchronized (Interface.PLANNER) {
+                double previous = Interface.getTimelimit();
+                Interface.setTimelimit(timelimit);
+                try {
+                    plan = key.create();
+                } finally {
+                    Interface.setTimelimit(previous);
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            try {
+                report.printf("%-40s %14.3f %14.1f %12.1f%n", key, seconds, plan.cost(), nanosPerExecute(plan));
+            } finally {
+                plan.close();
+            }
+        }
+    }
+
+    /**
+     * Times executions of a plan on its own arrays over at least a tenth of a second, after as long a warm-up.
+     */
+    private static double nanosPerExecute(DirectPlan plan) {
+        long warmup = System.nanoTime() + 100_000_000L;
+        while (System.nanoTime() < warmup)
+            plan.execute();
+        long count = 0, start = System.nanoTime(), elapsed;
+        do {
+            plan.execute();
+            count++;
+        } while ((elapsed = System.nanoTime() - start) < 100_000_000L);
+        return (double) elapsed / count;
+    }
+}
@@ -0,0 +1,179 @@
+package jfftw.planning;
+
+import jfftw.Interface;
+import jfftw.enums.Precision;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * A wisdom file shared by every process on a host.
+ * <p>
+ * Wisdom is only valid for the FFTW build and processor it was measured on, so the file name
+ * is derived from the FFTW version, the architecture, the processor model and its SIMD features.
+ * {@link #save()} merges the store's current contents into this process's wisdom before
+ * writing it back, so processes add to each other's results instead of overwriting them. Writes
+ * go to a temporary file which then replaces the store, under an exclusive lock on a companion
+ * lock file, so readers never see a partial store.
+ */
+public class WisdomStore {
+
+    private static final List<String> SIMD = Arrays.asList(
+            "sse2", "avx", "avx2", "fma", "avx512f", "asimd", "neon", "sve", "altivec", "vsx");
+    private static final Object local = new Object();
+
+    protected final Path path, lock;
+    protected final Precision precision;
+
+    /**
+     * Constructs a double precision store for this host.
+     *
+     * @param directory directory holding the stores of every host
+     */
+    public WisdomStore(Path directory) {
+        this(directory, Precision.DOUBLE);
+    }
+
+    /**
+     * Constructs a store for this host.
+     *
+     * @param directory directory holding the stores of every host
+     * @param precision precision of the wisdom stored
+     */
+    public WisdomStore(Path directory, Precision precision) {
+        this.precision = precision;
+        String name = hostKey(precision) + (precision == Precision.FLOAT ? ".fwisdom" : ".wisdom");
+        path = directory.resolve(name);
+        lock = directory.resolve(name + ".lock");
+    }
+
+    /**
+     * Imports the store into this process's wisdom, if it exists.
+     *
+     * @return true if wisdom was imported, false if the store does not exist
+     * @throws IOException if the store cannot be read or holds invalid wisdom
+     */
+    public boolean load() throws IOException {
+        synchronized (local) {
+            try (FileChannel c = openLock()) {
+                FileLock l = c.lock(0, Long.MAX_VALUE, true);
+                try {
+                    if (!Files.exists(path))
+                        return false;
+                    importWisdom(Files.readString(path, StandardCharsets.US_ASCII));
+                    return true;
+                } finally {
+                    l.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges this process's wisdom with the store and atomically replaces the store with the result.
+     *
+     * @throws IOException if the store cannot be read or written
+     */
+    public void save() throws IOException {
+        synchronized (local) {
+            Files.createDirectories(path.getParent());
+            try (FileChannel c = openLock()) {
+                FileLock l = c.lock();
+                try {
+                    if (Files.exists(path))
+                        importWisdom(Files.readString(path, StandardCharsets.US_ASCII));
+                    String wisdom = precision == Precision.FLOAT ? FloatWisdom.export() : Wisdom.export();
+                    Path tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+                    try {
+                        Files.writeString(tmp, wisdom, StandardCharsets.US_ASCII);
+                        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    } finally {
+                        Files.deleteIfExists(tmp);
+                    }
+                } finally {
+                    l.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return path of the wisdom file of this host
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    private FileChannel openLock() throws IOException {
+        Files.createDirectories(lock.getParent());
+        return FileChannel.open(lock, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private void importWisdom(String wisdom) throws IOException {
+        boolean ok = precision == Precision.FLOAT ? FloatWisdom.importFromString(wisdom) : Wisdom.importFromString(wisdom);
+        if (!ok)
+            throw new IOException("invalid wisdom in " + path);
+    }
+
+    /**
+     * @return key of this host's double precision store
+     * @see #hostKey(Precision)
+     */
+    public static String hostKey() {
+        return hostKey(Precision.DOUBLE);
+    }
+
+    /**
+     * Name identifying the FFTW build and processor of this host, of the form
+     * <code>fftw-3.3.10-sse2-avx-amd64-1a2b3c4d</code>, where the last part hashes the
+     * processor model and SIMD features. Single precision stores are keyed by the version of
+     * the fftwf library, which may be built separately from the double precision one.
+     *
+     * @param precision precision of the wisdom stored
+     * @return key of this host's store
+     */
+    public static String hostKey(Precision precision) {
+        String cpu = cpuModel() + " " + String.join(" ", simdFeatures());
+        String version = precision == Precision.FLOAT ? Interface.floatVersion() : Interface.version();
+        String key = version + "-" + System.getProperty("os.arch") + "-" + String.format("%08x", cpu.hashCode());
+        return key.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static String cpuModel() {
+        for (String line : cpuInfo())
+            if (line.startsWith("model name") || line.startsWith("Processor") || line.startsWith("cpu model"))
+                return line.substring(line.indexOf(':') + 1).trim();
+        return System.getProperty("os.name") + " " + Runtime.getRuntime().availableProcessors();
+    }
+
+    private static TreeSet<String> simdFeatures() {
+        TreeSet<String> features = new TreeSet<>();
+        for (String line : cpuInfo()) {
+            if (line.startsWith("flags") || line.startsWith("Features")) {
+                for (String f : line.substring(line.indexOf(':') + 1).trim().split("\\s+"))
+                    if (SIMD.contains(f.toLowerCase(Locale.ROOT)))
+                        features.add(f.toLowerCase(Locale.ROOT));
+                break;
+            }
+        }
+        return features;
+    }
+
+    private static List<String> cpuInfo() {
+        try {
+            return Files.readAllLines(Path.of("/proc/cpuinfo"));
+        } catch (IOException | RuntimeException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package jfftw.spectral;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Evaluates the DFT of blocks of real samples at a fixed set of frequencies.
+ * <p>
+ * Frequencies are in cycles per sample, so bin k of an N-point DFT is at k / N. The factories
+ * choose between a {@link GoertzelBank}, a {@link ChirpZ} and a full r2c transform by estimated
+ * cost, FFT costs being FFTW's estimates and other work being counted in flops. A full transform
+ * is only a candidate when every frequency is a bin of the block length. Evaluators reuse their
+ * buffers, so executions do not allocate and an evaluator is not thread-safe.
+ */
+public interface BinEvaluator extends AutoCloseable {
+
+    /**
+     * Evaluates one block.
+     *
+     * @param in        buffer holding the block's real samples
+     * @param offset    index of the block's first sample
+     * @param out       array receiving one interleaved complex value per frequency
+     * @param outOffset index of the first double written
+     */
+    void execute(DoubleBuffer in, int offset, double[] out, int outOffset);
+
+    /**
+     * Evaluates one block per channel.
+     *
+     * @param in       buffer holding the blocks of every channel
+     * @param channels number of channels
+     * @param distance number of samples between the first samples of successive channels
+     * @param out      array receiving the values of every channel, channel after channel
+     */
+    default void execute(DoubleBuffer in, int channels, int distance, double[] out) {
+        for (int c = 0; c < channels; c++)
+            execute(in, c * distance, out, 2 * c * bins());
+    }
+
+    /**
+     * @return number of samples in each block
+     */
+    int length();
+
+    /**
+     * @return number of frequencies evaluated
+     */
+    int bins();
+
+    /**
+     * Releases the evaluator's plans and buffers.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates the evaluator of least estimated cost for equally spaced frequencies.
+     *
+     * @param n     number of samples in each block
+     * @param start first frequency in cycles per sample
+     * @param step  spacing of the frequencies in cycles per sample
+     * @param bins  number of frequencies
+     * @param flags FFTW flags of any plans
+     * @return cheapest evaluator
+     */
+    static BinEvaluator band(int n, double start, double step, int bins, int flags) {
+        double[] f = new double[bins];
+        for (int k = 0; k < bins; k++)
+            f[k] = start + k * step;
+        double goertzel = GoertzelBank.cost(n, bins), chirp = ChirpZ.cost(n, bins);
+        double full = FullBins.onGrid(n, f) ? FullBins.cost(n, bins) : Double.MAX_VALUE;
+        if (full <= goertzel && full <= chirp)
+            return new FullBins(n, f, flags);
+        return chirp < goertzel ? new ChirpZ(n, start, step, bins, flags) : new GoertzelBank(n, f);
+    }
+
+    /**
+     * Creates the evaluator of least estimated cost for arbitrary frequencies.
+     *
+     * @param n           number of samples in each block
+     * @param frequencies frequencies in cycles per sample
+     * @param flags       FFTW flags of any plans
+     * @return cheapest evaluator
+     */
+    static BinEvaluator frequencies(int n, double[] frequencies, int flags) {
+        if (FullBins.onGrid(n, frequencies) && FullBins.cost(n, frequencies.length) < GoertzelBank.cost(n, frequencies.length))
+            return new FullBins(n, frequencies, flags);
+        return new GoertzelBank(n, frequencies);
+    }
+}
@@ -0,0 +1,174 @@
+package jfftw.spectral;
+
+import jfftw.data.Dimensions;
+import jfftw.data.NativeBuffer;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.planning.DirectPlan;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Zoom transform of equally spaced frequencies by the chirp-Z (Bluestein) algorithm.
+ * <p>
+ * The DFT at frequencies start + k * step, for k below the bin count, is rewritten as a
+ * convolution of the chirped input with a chirp, which is computed with c2c transforms of a
+ * length L of at least N + K - 1 having no prime factor above 7. The chirp's spectrum is computed
+ * once. The band may be narrower than a bin of the block length and the frequencies need not be
+ * bins, so one block resolves a narrow band at any resolution for the cost of two transforms
+ * of length L. Each ChirpZ owns its two plans, created on its own buffers, until it is closed.
+ */
+public final class ChirpZ implements BinEvaluator {
+
+    private static final int[] FACTORS = {2, 3, 5, 7};
+
+    private final int N, K, L;
+    private final double[] pre, post, chirp;
+    private final NativeBuffer aMem, bMem;
+    private final DoubleBuffer a, b;
+    private final DirectPlan forward, inverse;
+
+    /**
+     * @param n     number of samples in each block
+     * @param start first frequency in cycles per sample
+     * @param step  spacing of the frequencies in cycles per sample
+     * @param bins  number of frequencies
+     * @param flags FFTW flags of the convolution plans
+     */
+    public ChirpZ(int n, double start, double step, int bins, int flags) {
+        if (n < 1 || bins < 1)
+            throw new IllegalArgumentException("block length and bin count must be positive");
+        N = n;
+        K = bins;
+        L = smoothSize(Math.addExact(N, K) - 1);
+        pre = new double[2 * N];
+        post = new double[2 * K];
+        chirp = new double[2 * L];
+        for (int i = 0; i < N; i++) {
+            double f = start * i, c = 0.5 * step * ((double) i * i);
+            double angle = -2 * Math.PI * ((f - Math.floor(f)) + (c - Math.floor(c)));
+            pre[2 * i] = Math.cos(angle);
+            pre[2 * i + 1] = Math.sin(angle);
+        }
+        for (int k = 0; k < K; k++) {
+            double c = 0.5 * step * ((double) k * k);
+            double angle = -2 * Math.PI * (c - Math.floor(c));
+            post[2 * k] = Math.cos(angle);
+            post[2 * k + 1] = Math.sin(angle);
+        }
+
+        aMem = NativeBuffer.allocateComplex(L);
+        bMem = NativeBuffer.allocateComplex(L);
+        a = aMem.get();
+        b = bMem.get();
+        // planning may overwrite both buffers, so plan before filling them
+        Dimensions dims = new Dimensions(L);
+        try {
+            forward = new DirectPlan(a, b, -1, Complexity.COMPLEX_TO_COMPLEX, flags, dims);
+            try {
+                inverse = new DirectPlan(b, a, 1, Complexity.COMPLEX_TO_COMPLEX, flags, dims);
+            } catch (RuntimeException e) {
+                forward.close();
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            aMem.close();
+            bMem.close();
+            throw e;
+        }
+
+        // chirp at lags -(N - 1) to K - 1, negative lags wrapping to the end
+        for (int i = 0; i < 2 * L; i++)
+            a.put(i, 0);
+        for (int m = -(N - 1); m < K; m++) {
+            double c = 0.5 * step * ((double) m * m);
+            double angle = 2 * Math.PI * (c - Math.floor(c));
+            int j = m < 0 ? m + L : m;
+            a.put(2 * j, Math.cos(angle));
+            a.put(2 * j + 1, Math.sin(angle));
+        }
+        forward.execute();
+        // the inverse transform is unnormalized, so fold 1 / L into the chirp spectrum
+        for (int i = 0; i < 2 * L; i++)
+            chirp[i] = b.get(i) / L;
+    }
+
+    @Override
+    public void execute(DoubleBuffer in, int offset, double[] out, int outOffset) {
+        for (int i = 0; i < N; i++) {
+            double x = in.get(offset + i);
+            a.put(2 * i, x * pre[2 * i]);
+            a.put(2 * i + 1, x * pre[2 * i + 1]);
+        }
+        for (int i = 2 * N; i < 2 * L; i++)
+            a.put(i, 0);
+        forward.execute();
+        for (int i = 0; i < 2 * L; i += 2) {
+            double yr = b.get(i), yi = b.get(i + 1), hr = chirp[i], hi = chirp[i + 1];
+            b.put(i, yr * hr - yi * hi);
+            b.put(i + 1, yr * hi + yi * hr);
+        }
+        inverse.execute();
+        for (int k = 0; k < 2 * K; k += 2) {
+            double zr = a.get(k), zi = a.get(k + 1), pr = post[k], pi = post[k + 1];
+            out[outOffset + k] = zr * pr - zi * pi;
+            out[outOffset + k + 1] = zr * pi + zi * pr;
+        }
+    }
+
+    @Override
+    public int length() {
+        return N;
+    }
+
+    @Override
+    public int bins() {
+        return K;
+    }
+
+    /**
+     * @return length of the convolution transforms
+     */
+    public int convolutionLength() {
+        return L;
+    }
+
+    /**
+     * Destroys this transform's plans and frees its buffers.
+     */
+    @Override
+    public void close() {
+        forward.close();
+        inverse.close();
+        aMem.close();
+        bMem.close();
+    }
+
+    /**
+     * @param n    number of samples in each block
+     * @param bins number of frequencies
+     * @return estimated cost of one block, two FFTW estimates plus the flops of the chirp products
+     */
+    public static double cost(int n, int bins) {
+        int l = smoothSize(Math.addExact(n, bins) - 1);
+        try (NativeBuffer x = NativeBuffer.allocateComplex(l); NativeBuffer y = NativeBuffer.allocateComplex(l);
+             DirectPlan p = new DirectPlan(x.get(), y.get(), -1, Complexity.COMPLEX_TO_COMPLEX, Flag.combine(Flag.ESTIMATE), new Dimensions(l))) {
+            return 2 * p.estimateCost() + 2.0 * n + 6.0 * l + 6.0 * bins;
+        }
+    }
+
+    /**
+     * @param min minimum length
+     * @return smallest length of at least min whose prime factors are 2, 3, 5 and 7
+     */
+    public static int smoothSize(int min) {
+        for (int n = Math.max(min, 1); ; n = Math.addExact(n, 1)) {
+            int m = n;
+            for (int p : FACTORS)
+                while (m % p == 0)
+                    m /= p;
+            if (m == 1)
+                return n;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package jfftw.spectral;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Receives the spectra emitted by an {@link Stft}.
+ */
+@FunctionalInterface
+public interface FrameConsumer {
+
+    /**
+     * @param frame    index of the frame, the first pushed sample being in frame 0
+     * @param spectrum buffer holding the frame's N / 2 + 1 interleaved complex bins, valid only during this call
+     * @param offset   index of the frame's first double in spectrum
+     */
+    void accept(long frame, DoubleBuffer spectrum, int offset);
+}
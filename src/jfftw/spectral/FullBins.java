@@ -0,0 +1,84 @@
+package jfftw.spectral;
+
+import jfftw.data.Dimensions;
+import jfftw.data.NativeBuffer;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.planning.DirectPlan;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Evaluates bins of the block length with one full r2c transform.
+ */
+final class FullBins implements BinEvaluator {
+
+    private final int N;
+    private final int[] bins;
+    private final NativeBuffer realMem, complexMem;
+    private final DoubleBuffer real, complex;
+    private final DirectPlan plan;
+
+    FullBins(int n, double[] frequencies, int flags) {
+        N = n;
+        bins = new int[frequencies.length];
+        for (int k = 0; k < bins.length; k++)
+            bins[k] = Math.floorMod(Math.round(frequencies[k] * n), n);
+        realMem = NativeBuffer.allocateReal(n);
+        complexMem = NativeBuffer.allocateComplex(n);
+        real = realMem.get();
+        complex = complexMem.get();
+        plan = new DirectPlan(real, complex, -1, Complexity.REAL_TO_COMPLEX, flags, new Dimensions(n));
+    }
+
+    @Override
+    public void execute(DoubleBuffer in, int offset, double[] out, int outOffset) {
+        real.put(0, in, offset, N);
+        plan.execute();
+        for (int k = 0; k < bins.length; k++) {
+            int bin = bins[k];
+            // bins above N / 2 are the conjugates of their mirror images
+            boolean mirrored = bin > N / 2;
+            int j = mirrored ? N - bin : bin;
+            out[outOffset + 2 * k] = complex.get(2 * j);
+            out[outOffset + 2 * k + 1] = mirrored ? -complex.get(2 * j + 1) : complex.get(2 * j + 1);
+        }
+    }
+
+    @Override
+    public int length() {
+        return N;
+    }
+
+    @Override
+    public int bins() {
+        return bins.length;
+    }
+
+    @Override
+    public void close() {
+        plan.close();
+        realMem.close();
+        complexMem.close();
+    }
+
+    /**
+     * @return true if every frequency is a bin of an n-point DFT
+     */
+    static boolean onGrid(int n, double[] frequencies) {
+        for (double f : frequencies)
+            if (Math.abs(f * n - Math.rint(f * n)) > 1e-9)
+                return false;
+        return true;
+    }
+
+    /**
+     * @return FFTW's estimate of one r2c transform plus the input copy
+     */
+    static double cost(int n, int bins) {
+        try (NativeBuffer r = NativeBuffer.allocateReal(n); NativeBuffer c = NativeBuffer.allocateComplex(n);
+             DirectPlan p = new DirectPlan(r.get(), c.get(), -1, Complexity.REAL_TO_COMPLEX, Flag.combine(Flag.ESTIMATE), new Dimensions(n))) {
+            return p.estimateCost() + n + 2.0 * bins;
+        }
+    }
+}
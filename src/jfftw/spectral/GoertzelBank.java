@@ -0,0 +1,91 @@
+package jfftw.spectral;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Goertzel evaluation of a fixed set of frequencies.
+ * <p>
+ * Every frequency runs its own second order recursion, and all recursions advance together
+ * sample by sample so that each sample is read once. Each frequency costs about four flops per
+ * sample, so a bank beats a full transform when only a few frequencies are watched, and the
+ * frequencies need not be bins of the block length.
+ */
+public final class GoertzelBank implements BinEvaluator {
+
+    private final int N, K;
+    private final double[] coeff, shiftRe, shiftIm, phaseRe, phaseIm, s1, s2;
+
+    /**
+     * @param n           number of samples in each block
+     * @param frequencies frequencies in cycles per sample
+     */
+    public GoertzelBank(int n, double[] frequencies) {
+        if (n < 1 || frequencies.length == 0)
+            throw new IllegalArgumentException("block length and frequency count must be positive");
+        N = n;
+        K = frequencies.length;
+        coeff = new double[K];
+        shiftRe = new double[K];
+        shiftIm = new double[K];
+        phaseRe = new double[K];
+        phaseIm = new double[K];
+        s1 = new double[K];
+        s2 = new double[K];
+        for (int k = 0; k < K; k++) {
+            double w = 2 * Math.PI * frequencies[k];
+            coeff[k] = 2 * Math.cos(w);
+            shiftRe[k] = Math.cos(w);
+            shiftIm[k] = -Math.sin(w);
+            // the recursion ends at sample N - 1, so rotate its output back to sample 0
+            double f = frequencies[k] * (N - 1);
+            double a = -2 * Math.PI * (f - Math.floor(f));
+            phaseRe[k] = Math.cos(a);
+            phaseIm[k] = Math.sin(a);
+        }
+    }
+
+    @Override
+    public void execute(DoubleBuffer in, int offset, double[] out, int outOffset) {
+        Arrays.fill(s1, 0);
+        Arrays.fill(s2, 0);
+        for (int n = 0; n < N; n++) {
+            double x = in.get(offset + n);
+            for (int k = 0; k < K; k++) {
+                double s0 = x + coeff[k] * s1[k] - s2[k];
+                s2[k] = s1[k];
+                s1[k] = s0;
+            }
+        }
+        for (int k = 0; k < K; k++) {
+            double yr = s1[k] - shiftRe[k] * s2[k], yi = -shiftIm[k] * s2[k];
+            out[outOffset + 2 * k] = yr * phaseRe[k] - yi * phaseIm[k];
+            out[outOffset + 2 * k + 1] = yr * phaseIm[k] + yi * phaseRe[k];
+        }
+    }
+
+    @Override
+    public int length() {
+        return N;
+    }
+
+    @Override
+    public int bins() {
+        return K;
+    }
+
+    /**
+     * A bank holds no native resources.
+     */
+    @Override
+    public void close() {}
+
+    /**
+     * @param n    number of samples in each block
+     * @param bins number of frequencies
+     * @return estimated flops of one block
+     */
+    public static double cost(int n, int bins) {
+        return 4.0 * n * bins + 8.0 * bins;
+    }
+}
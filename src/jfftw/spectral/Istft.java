@@ -0,0 +1,129 @@
+package jfftw.spectral;
+
+import jfftw.data.Batch;
+import jfftw.data.Dimensions;
+import jfftw.data.NativeBuffer;
+import jfftw.enums.Complexity;
+import jfftw.planning.DirectBatchPlan;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Streaming inverse short-time Fourier transform by weighted overlap-add.
+ * <p>
+ * Frames are queued in one direct buffer and each batch is transformed by a single batched
+ * c2r plan. Every frame is multiplied by the synthesis window and added to the output, which is
+ * normalized by the overlapped product of the analysis and synthesis windows, so frames of an
+ * unmodified {@link Stft} with the same frame length, hop and analysis window reconstruct the
+ * signal. The first frame length - hop samples lack the overlap of earlier frames.
+ * <p>
+ * Each frame completes hop output samples, which are emitted once its batch is transformed.
+ * An Istft keeps state between calls and is not thread-safe.
+ */
+public final class Istft implements AutoCloseable {
+
+    private final int N, bins, hop, frames;
+    private final double[] synthesis, scale, acc, emit;
+    private final NativeBuffer spectraMem, signalMem;
+    private final DoubleBuffer spectra, signal;
+    private final DirectBatchPlan plan;
+    private int queued;
+
+    /**
+     * @param frameLength    number of samples in each frame
+     * @param hop            number of samples between the starts of successive frames
+     * @param analysis       window the frames were analyzed with
+     * @param synthesis      window applied to each transformed frame
+     * @param framesPerBatch number of frames transformed by each native call
+     * @param flags          FFTW flags of the batched plan
+     */
+    public Istft(int frameLength, int hop, Window analysis, Window synthesis, int framesPerBatch, int flags) {
+        if (frameLength < 1 || hop < 1 || framesPerBatch < 1)
+            throw new IllegalArgumentException("frame length, hop and frames per batch must be positive");
+        N = frameLength;
+        bins = N / 2 + 1;
+        this.hop = hop;
+        frames = framesPerBatch;
+
+        double[] wa = analysis.values(N);
+        this.synthesis = synthesis.values(N);
+        scale = new double[hop];
+        for (int r = 0; r < hop; r++) {
+            double sum = 0;
+            for (int i = r; i < N; i += hop)
+                sum += wa[i] * this.synthesis[i];
+            // c2r transforms are unnormalized, so fold 1 / N into the overlap-add scale
+            scale[r] = sum == 0 ? 0 : 1 / (sum * N);
+        }
+        acc = new double[Math.max(N, hop)];
+        emit = new double[hop];
+
+        spectraMem = NativeBuffer.allocateComplex(Math.multiplyExact(frames, bins));
+        signalMem = NativeBuffer.allocateReal(Math.multiplyExact(frames, N));
+        spectra = spectraMem.get();
+        signal = signalMem.get();
+        plan = new DirectBatchPlan(spectra, signal, 1, Complexity.COMPLEX_TO_REAL, flags, new Dimensions(N), new Batch(frames));
+    }
+
+    /**
+     * Queues one frame and emits the samples of every frame in its batch once the batch is complete.
+     *
+     * @param spectrum array holding N / 2 + 1 interleaved complex bins
+     * @param offset   index of the frame's first double
+     * @param c        receives the emitted samples
+     */
+    public void push(double[] spectrum, int offset, SampleConsumer c) {
+        spectra.put(2 * queued * bins, spectrum, offset, 2 * bins);
+        if (++queued == frames)
+            synthesize(c);
+    }
+
+    /**
+     * Queues one frame and emits the samples of every frame in its batch once the batch is complete.
+     *
+     * @param spectrum buffer holding N / 2 + 1 interleaved complex bins, e.g. as passed to a {@link FrameConsumer}
+     * @param offset   index of the frame's first double
+     * @param c        receives the emitted samples
+     */
+    public void push(DoubleBuffer spectrum, int offset, SampleConsumer c) {
+        spectra.put(2 * queued * bins, spectrum, offset, 2 * bins);
+        if (++queued == frames)
+            synthesize(c);
+    }
+
+    /**
+     * Emits the samples of the frames of a partial batch.
+     *
+     * @param c receives the emitted samples
+     */
+    public void flush(SampleConsumer c) {
+        if (queued > 0)
+            synthesize(c);
+    }
+
+    /**
+     * Destroys the plan and frees the spectrum and signal buffers.
+     */
+    @Override
+    public void close() {
+        plan.close();
+        spectraMem.close();
+        signalMem.close();
+    }
+
+    private void synthesize(SampleConsumer c) {
+        plan.execute();
+        for (int j = 0; j < queued; j++) {
+            int base = j * N;
+            for (int i = 0; i < N; i++)
+                acc[i] += signal.get(base + i) * synthesis[i];
+            for (int r = 0; r < hop; r++)
+                emit[r] = acc[r] * scale[r];
+            c.accept(emit, 0, hop);
+            System.arraycopy(acc, hop, acc, 0, acc.length - hop);
+            Arrays.fill(acc, acc.length - hop, acc.length, 0);
+        }
+        queued = 0;
+    }
+}
@@ -0,0 +1,279 @@
+package jfftw.spectral;
+
+import jfftw.data.Batch;
+import jfftw.data.Dimensions;
+import jfftw.data.NativeBuffer;
+import jfftw.enums.Complexity;
+import jfftw.enums.Flag;
+import jfftw.enums.PruningStrategy;
+import jfftw.planning.DirectBatchPlan;
+import jfftw.planning.DirectPlan;
+import jfftw.planning.Plan;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Complex DFT of a zero-padded input, computing only a contiguous range of output bins.
+ * <p>
+ * The input holds the first M samples of an N-point transform whose remaining samples are zero,
+ * and the output holds K consecutive bins starting at any bin, wrapping around bin N - 1. The
+ * bins are computed by the {@link PruningStrategy} of least estimated cost: a full transform,
+ * a decomposition into transforms of length L, with M &lt;= L and L dividing N, which skip the
+ * padding and any residue without requested bins, or a direct sum over the input for few bins.
+ * FFT costs are FFTW's estimates and other work is counted in flops. Sub-plans are created with
+ * {@link Flag#ALLOW_PRUNING} added to the flags. A pruned transform reuses its buffers and is not
+ * thread-safe.
+ */
+public final class PrunedDft implements AutoCloseable {
+
+    private final int N, M, first, K, sign, L, P, R;
+    private final PruningStrategy strategy;
+    private final boolean refill;
+    private final double[] twiddles;
+    private final NativeBuffer inMem, outMem;
+    private final DoubleBuffer in, out;
+    private final Plan<DoubleBuffer> plan;
+
+    /**
+     * Constructs a pruned transform with the strategy of least estimated cost.
+     *
+     * @param n           transform length
+     * @param inputLength number of leading nonzero input samples
+     * @param firstBin    first output bin
+     * @param bins        number of output bins
+     * @param sign        transform sign (-1 or 1)
+     * @param flags       FFTW flags of the sub-plans
+     */
+    public PrunedDft(int n, int inputLength, int firstBin, int bins, int sign, int flags) {
+        this(n, inputLength, firstBin, bins, sign, flags, choose(n, inputLength, bins));
+    }
+
+    /**
+     * Constructs a pruned transform with a given strategy.
+     *
+     * @param n           transform length
+     * @param inputLength number of leading nonzero input samples
+     * @param firstBin    first output bin
+     * @param bins        number of output bins
+     * @param sign        transform sign (-1 or 1)
+     * @param flags       FFTW flags of the sub-plans
+     * @param strategy    how the bins are computed
+     */
+    public PrunedDft(int n, int inputLength, int firstBin, int bins, int sign, int flags, PruningStrategy strategy) {
+        ensureShape(n, inputLength, bins);
+        if (firstBin < 0 || firstBin >= n)
+            throw new IllegalArgumentException("first bin out of range");
+        N = n;
+        M = inputLength;
+        first = firstBin;
+        K = bins;
+        this.sign = sign;
+        this.strategy = strategy;
+        refill = (flags & Flag.DESTROY_INPUT.value) != 0;
+        flags |= Flag.ALLOW_PRUNING.value;
+
+        switch (strategy) {
+            case FULL:
+                L = N;
+                P = R = 1;
+                twiddles = null;
+                inMem = NativeBuffer.allocateComplex(N);
+                outMem = NativeBuffer.allocateComplex(N);
+                in = inMem.get();
+                out = outMem.get();
+                plan = new DirectPlan(in, out, sign, Complexity.COMPLEX_TO_COMPLEX, flags, new Dimensions(N));
+                break;
+            case DECOMPOSED:
+                L = subLength(N, M);
+                P = N / L;
+                R = Math.min(P, K);
+                twiddles = new double[2 * R * M];
+                for (int j = 0; j < R; j++) {
+                    long r = residue(j);
+                    for (int t = 0; t < M; t++) {
+                        double a = sign * 2 * Math.PI * (t * r % N) / N;
+                        twiddles[2 * (j * M + t)] = Math.cos(a);
+                        twiddles[2 * (j * M + t) + 1] = Math.sin(a);
+                    }
+                }
+                inMem = NativeBuffer.allocateComplex(Math.multiplyExact(R, L));
+                outMem = NativeBuffer.allocateComplex(Math.multiplyExact(R, L));
+                in = inMem.get();
+                out = outMem.get();
+                plan = new DirectBatchPlan(in, out, sign, Complexity.COMPLEX_TO_COMPLEX, flags, new Dimensions(L), new Batch(R));
+                break;
+            case DIRECT:
+                L = N;
+                P = R = 1;
+                twiddles = new double[2 * K];
+                for (int i = 0; i < K; i++) {
+                    double a = sign * 2 * Math.PI * bin(i) / N;
+                    twiddles[2 * i] = Math.cos(a);
+                    twiddles[2 * i + 1] = Math.sin(a);
+                }
+                inMem = outMem = null;
+                in = out = null;
+                plan = null;
+                break;
+            default: throw new IllegalArgumentException("unknown strategy " + strategy);
+        }
+        if (in != null)
+            clear(in, 0, in.capacity());
+    }
+
+    /**
+     * Computes the requested bins.
+     *
+     * @param input  array holding M interleaved complex samples
+     * @param output array receiving K interleaved complex bins
+     */
+    public void execute(double[] input, double[] output) {
+        if (input.length < 2 * M)
+            throw new IllegalArgumentException("input shorter than the nonzero input length");
+        if (output.length < 2 * K)
+            throw new IllegalArgumentException("output shorter than the number of bins");
+        switch (strategy) {
+            case FULL: full(input, output); break;
+            case DECOMPOSED: decomposed(input, output); break;
+            case DIRECT: direct(input, output); break;
+        }
+    }
+
+    private void full(double[] input, double[] output) {
+        if (refill)
+            clear(in, 2 * M, 2 * N);
+        in.put(0, input, 0, 2 * M);
+        plan.execute();
+        int head = Math.min(K, N - first);
+        out.get(2 * first, output, 0, 2 * head);
+        out.get(0, output, 2 * head, 2 * (K - head));
+    }
+
+    private void decomposed(double[] input, double[] output) {
+        for (int j = 0; j < R; j++) {
+            int base = 2 * j * L, tw = 2 * j * M;
+            if (refill)
+                clear(in, base + 2 * M, base + 2 * L);
+            for (int t = 0; t < 2 * M; t += 2) {
+                double xr = input[t], xi = input[t + 1], wr = twiddles[tw + t], wi = twiddles[tw + t + 1];
+                in.put(base + t, xr * wr - xi * wi);
+                in.put(base + t + 1, xr * wi + xi * wr);
+            }
+        }
+        plan.execute();
+        for (int i = 0; i < K; i++) {
+            int k = bin(i);
+            // bin k = r + P * q is element q of the transform of residue r
+            int slot = K >= P ? k % P : i, q = k / P;
+            output[2 * i] = out.get(2 * (slot * L + q));
+            output[2 * i + 1] = out.get(2 * (slot * L + q) + 1);
+        }
+    }
+
+    private void direct(double[] input, double[] output) {
+        for (int i = 0; i < K; i++) {
+            double wr = twiddles[2 * i], wi = twiddles[2 * i + 1];
+            double pr = 1, pi = 0, sr = 0, si = 0;
+            for (int t = 0; t < 2 * M; t += 2) {
+                double xr = input[t], xi = input[t + 1];
+                sr += xr * pr - xi * pi;
+                si += xr * pi + xi * pr;
+                double r = pr * wr - pi * wi;
+                pi = pr * wi + pi * wr;
+                pr = r;
+            }
+            output[2 * i] = sr;
+            output[2 * i + 1] = si;
+        }
+    }
+
+    /**
+     * @return strategy computing the bins
+     */
+    public PruningStrategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * @return length of the sub-transforms, N unless the strategy is DECOMPOSED
+     */
+    public int subLength() {
+        return L;
+    }
+
+    /**
+     * Destroys the sub-plan and frees the buffers.
+     */
+    @Override
+    public void close() {
+        if (plan != null) {
+            plan.close();
+            inMem.close();
+            outMem.close();
+        }
+    }
+
+    private int bin(int i) {
+        return (int) (((long) first + i) % N);
+    }
+
+    /**
+     * @return residue modulo P of the bins of transform j
+     */
+    private long residue(int j) {
+        return K >= P ? j : (first + (long) j) % P;
+    }
+
+    /**
+     * Chooses the strategy of least estimated cost, planning candidate sub-transforms with {@link Flag#ESTIMATE}.
+     *
+     * @param n           transform length
+     * @param inputLength number of leading nonzero input samples
+     * @param bins        number of output bins
+     * @return cheapest strategy
+     */
+    public static PruningStrategy choose(int n, int inputLength, int bins) {
+        ensureShape(n, inputLength, bins);
+        double full = estimate(n, 1) + 2.0 * inputLength;
+        int l = subLength(n, inputLength);
+        int r = Math.min(n / l, bins);
+        double decomposed = l == n ? Double.MAX_VALUE : estimate(l, r) + 6.0 * r * inputLength;
+        double direct = 8.0 * inputLength * bins;
+        if (direct <= full && direct <= decomposed)
+            return PruningStrategy.DIRECT;
+        return decomposed < full ? PruningStrategy.DECOMPOSED : PruningStrategy.FULL;
+    }
+
+    private static double estimate(int length, int howmany) {
+        try (NativeBuffer a = NativeBuffer.allocateComplex(Math.multiplyExact(length, howmany));
+             NativeBuffer b = NativeBuffer.allocateComplex(Math.multiplyExact(length, howmany));
+             DirectBatchPlan p = new DirectBatchPlan(a.get(), b.get(), -1, Complexity.COMPLEX_TO_COMPLEX,
+                     Flag.combine(Flag.ESTIMATE), new Dimensions(length), new Batch(howmany))) {
+            return p.estimateCost();
+        }
+    }
+
+    /**
+     * @return smallest divisor of n which is at least m
+     */
+    private static int subLength(int n, int m) {
+        for (int l = m; l < n; l++)
+            if (n % l == 0)
+                return l;
+        return n;
+    }
+
+    private static void ensureShape(int n, int inputLength, int bins) {
+        if (n < 1)
+            throw new IllegalArgumentException("transform length must be positive");
+        if (inputLength < 1 || inputLength > n)
+            throw new IllegalArgumentException("input length must be between 1 and the transform length");
+        if (bins < 1 || bins > n)
+            throw new IllegalArgumentException("bin count must be between 1 and the transform length");
+    }
+
+    private static void clear(DoubleBuffer b, int from, int to) {
+        for (int i = from; i < to; i++)
+            b.put(i, 0);
+    }
+}
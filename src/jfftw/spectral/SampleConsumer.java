@@ -0,0 +1,15 @@
+package jfftw.spectral;
+
+/**
+ * Receives the samples emitted by an {@link Istft}.
+ */
+@FunctionalInterface
+public interface SampleConsumer {
+
+    /**
+     * @param samples array holding the samples, valid only during this call
+     * @param offset  index of the first sample
+     * @param length  number of samples
+     */
+    void accept(double[] samples, int offset, int length);
+}
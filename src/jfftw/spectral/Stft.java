@@ -0,0 +1,195 @@
+package jfftw.spectral;
+
+import jfftw.data.Batch;
+import jfftw.data.Dimensions;
+import jfftw.data.NativeBuffer;
+import jfftw.enums.Complexity;
+import jfftw.planning.DirectBatchPlan;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Streaming short-time Fourier transform.
+ * <p>
+ * Samples are buffered in one direct buffer, and each batch of frames is transformed by a
+ * single batched r2c plan whose input distance is the hop size, so frames are read where they
+ * lie in the signal. Windows which are sums of cosines are then applied to the spectra;
+ * other windows, such as Kaiser, are applied by copying each frame to a scratch batch first.
+ * <p>
+ * A frame is emitted once a batch of frames is complete, so with one frame per batch the
+ * latency is one hop. {@link #flush(FrameConsumer)} emits the complete frames of a partial batch.
+ * An Stft keeps state between calls and is not thread-safe.
+ */
+public final class Stft implements AutoCloseable {
+
+    private final int N, bins, hop, frames, capacity;
+    private final double[] terms, window;
+    private final NativeBuffer signalMem, scratchMem, rawMem, spectraMem;
+    private final DoubleBuffer signal, scratch, raw, spectra;
+    private final DirectBatchPlan plan;
+    private int filled, skip;
+    private long frame;
+
+    /**
+     * @param frameLength    number of samples in each frame
+     * @param hop            number of samples between the starts of successive frames
+     * @param window         analysis window
+     * @param framesPerBatch number of frames transformed by each native call
+     * @param flags          FFTW flags of the batched plan
+     */
+    public Stft(int frameLength, int hop, Window window, int framesPerBatch, int flags) {
+        if (frameLength < 1 || hop < 1 || framesPerBatch < 1)
+            throw new IllegalArgumentException("frame length, hop and frames per batch must be positive");
+        N = frameLength;
+        bins = N / 2 + 1;
+        this.hop = hop;
+        frames = framesPerBatch;
+        capacity = Math.toIntExact(N + (long) (frames - 1) * hop);
+        double[] t = window.cosineTerms();
+        terms = t != null && N >= 2 * t.length ? t : null;
+        this.window = terms == null ? window.values(N) : null;
+
+        signalMem = NativeBuffer.allocateReal(capacity);
+        rawMem = NativeBuffer.allocateComplex(Math.multiplyExact(frames, bins));
+        signal = signalMem.get();
+        raw = rawMem.get();
+        Dimensions dims = new Dimensions(N);
+        if (terms != null) {
+            scratchMem = null;
+            scratch = null;
+            spectraMem = NativeBuffer.allocateComplex(frames * bins);
+            spectra = spectraMem.get();
+            plan = new DirectBatchPlan(signal, raw, -1, Complexity.REAL_TO_COMPLEX, flags, dims, new Batch(frames, 1, hop, 1, bins));
+        } else {
+            scratchMem = NativeBuffer.allocateReal(Math.multiplyExact(frames, N));
+            scratch = scratchMem.get();
+            spectraMem = null;
+            spectra = raw;
+            plan = new DirectBatchPlan(scratch, raw, -1, Complexity.REAL_TO_COMPLEX, flags, dims, new Batch(frames));
+        }
+    }
+
+    /**
+     * Appends samples to the signal and emits every batch of frames they complete.
+     *
+     * @param samples samples to append
+     * @param offset  index of the first sample
+     * @param length  number of samples
+     * @param c       receives the emitted frames
+     */
+    public void push(double[] samples, int offset, int length, FrameConsumer c) {
+        if (offset < 0 || length < 0 || offset + length > samples.length)
+            throw new IndexOutOfBoundsException("samples outside array");
+        while (length > 0) {
+            int n;
+            if (skip > 0) {
+                n = Math.min(skip, length);
+                skip -= n;
+            } else {
+                n = Math.min(capacity - filled, length);
+                signal.put(filled, samples, offset, n);
+                filled += n;
+                if (filled == capacity)
+                    transform(frames, c);
+            }
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * Emits the complete frames of a partial batch.
+     *
+     * @param c receives the emitted frames
+     */
+    public void flush(FrameConsumer c) {
+        if (filled >= N)
+            transform((filled - N) / hop + 1, c);
+    }
+
+    /**
+     * @return number of frames emitted so far
+     */
+    public long framesEmitted() {
+        return frame;
+    }
+
+    /**
+     * @return number of complex bins in each frame
+     */
+    public int bins() {
+        return bins;
+    }
+
+    /**
+     * Destroys the plan and frees the signal and spectrum buffers.
+     */
+    @Override
+    public void close() {
+        plan.close();
+        signalMem.close();
+        rawMem.close();
+        if (scratchMem != null)
+            scratchMem.close();
+        if (spectraMem != null)
+            spectraMem.close();
+    }
+
+    /**
+     * Transforms the first count frames of the signal, emits them and drops the samples no later frame reads.
+     */
+    private void transform(int count, FrameConsumer c) {
+        if (terms == null) {
+            for (int j = 0; j < count; j++)
+                for (int i = 0; i < N; i++)
+                    scratch.put(j * N + i, signal.get(j * hop + i) * window[i]);
+        }
+        plan.execute();
+        for (int j = 0; j < count; j++) {
+            int offset = 2 * j * bins;
+            if (terms != null)
+                applyWindow(offset);
+            c.accept(frame++, spectra, offset);
+        }
+        int consumed = count * hop, retained = filled - consumed;
+        if (retained > 0) {
+            signal.put(0, signal, consumed, retained);
+            filled = retained;
+        } else {
+            skip = -retained;
+            filled = 0;
+        }
+    }
+
+    /**
+     * Windows one frame by convolving its spectrum with the window's cosine terms. Bins outside
+     * the half spectrum are the conjugates of their mirror images.
+     */
+    private void applyWindow(int offset) {
+        for (int k = 0; k < bins; k++) {
+            double re = terms[0] * raw.get(offset + 2 * k), im = terms[0] * raw.get(offset + 2 * k + 1);
+            for (int m = 1; m < terms.length; m++) {
+                double h = terms[m] / 2;
+                re += h * (real(offset, k - m) + real(offset, k + m));
+                im += h * (imag(offset, k - m) + imag(offset, k + m));
+            }
+            spectra.put(offset + 2 * k, re);
+            spectra.put(offset + 2 * k + 1, im);
+        }
+    }
+
+    private double real(int offset, int k) {
+        return raw.get(offset + 2 * mirror(k));
+    }
+
+    private double imag(int offset, int k) {
+        double v = raw.get(offset + 2 * mirror(k) + 1);
+        return k < 0 || k >= bins ? -v : v;
+    }
+
+    private int mirror(int k) {
+        if (k < 0)
+            return -k;
+        return k < bins ? k : N - k;
+    }
+}
@@ -0,0 +1,89 @@
+package jfftw.spectral;
+
+/**
+ * A periodic (DFT-even) analysis or synthesis window.
+ * <p>
+ * Rectangular, Hann, Hamming and Blackman windows are sums of cosines, so multiplying a frame
+ * by them is equivalent to a short convolution of its spectrum. {@link Stft} uses this to
+ * window frames after transforming them in place in the signal, without copying them.
+ */
+public final class Window {
+
+    private final String name;
+    private final double[] terms;
+    private final double beta;
+
+    private Window(String name, double[] terms, double beta) {
+        this.name = name;
+        this.terms = terms;
+        this.beta = beta;
+    }
+
+    public static Window rectangular() {
+        return new Window("rectangular", new double[] {1}, 0);
+    }
+
+    public static Window hann() {
+        return new Window("hann", new double[] {0.5, -0.5}, 0);
+    }
+
+    public static Window hamming() {
+        return new Window("hamming", new double[] {0.54, -0.46}, 0);
+    }
+
+    public static Window blackman() {
+        return new Window("blackman", new double[] {0.42, -0.5, 0.08}, 0);
+    }
+
+    /**
+     * @param beta shape parameter, trading main lobe width for side lobe level
+     * @return Kaiser window
+     */
+    public static Window kaiser(double beta) {
+        if (beta < 0)
+            throw new IllegalArgumentException("beta must not be negative");
+        return new Window("kaiser(" + beta + ")", null, beta);
+    }
+
+    /**
+     * @param n window length
+     * @return n window values
+     */
+    public double[] values(int n) {
+        double[] w = new double[n];
+        for (int i = 0; i < n; i++) {
+            if (terms == null) {
+                double r = 2.0 * i / n - 1;
+                w[i] = bessel0(beta * Math.sqrt(1 - r * r)) / bessel0(beta);
+            } else {
+                for (int m = 0; m < terms.length; m++)
+                    w[i] += terms[m] * Math.cos(2 * Math.PI * m * i / n);
+            }
+        }
+        return w;
+    }
+
+    /**
+     * @return coefficients a_m of w[n] = sum a_m cos(2 pi m n / N), or null if this window is not a sum of cosines
+     */
+    double[] cosineTerms() {
+        return terms == null ? null : terms.clone();
+    }
+
+    /**
+     * Modified Bessel function of the first kind and order zero, by its power series.
+     */
+    private static double bessel0(double x) {
+        double sum = 1, term = 1, q = x * x / 4;
+        for (int k = 1; term > 1e-17 * sum; k++) {
+            term *= q / ((double) k * k);
+            sum += term;
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}